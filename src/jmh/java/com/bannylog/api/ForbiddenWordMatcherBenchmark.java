@@ -0,0 +1,78 @@
+package com.bannylog.api;
+
+import com.bannylog.api.validation.ForbiddenWordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 금지어 검사 벤치마크
+ * - dictionarySize: 금지어 개수, contentSize: 본문 길이
+ * - 금지어가 없는 글(끝까지 다 읽는 경우) 기준
+ * - matcher는 금지어 개수와 상관없이 비슷해야 하고, containsEach(금지어마다 contains)는 금지어 개수에 비례
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ForbiddenWordMatcherBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int dictionarySize;
+
+    @Param({"1000", "100000"})
+    public int contentSize;
+
+    private List<String> words;
+    private ForbiddenWordMatcher matcher;
+    private String title;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        // 임의의 한글 2~4글자 금지어 (본문에는 나오지 않음)
+        Random random = new Random(42);
+        words = IntStream.range(0, dictionarySize)
+                .mapToObj(i -> random.ints(2 + random.nextInt(3), 0, 11172)
+                        .mapToObj(offset -> String.valueOf((char) ('가' + offset)))
+                        .collect(Collectors.joining()))
+                .collect(Collectors.toList());
+        matcher = ForbiddenWordMatcher.of(words);
+
+        title = "낙성대 반짝이의 하루";
+        String sentence = "오늘은 날씨가 좋았다. ";
+        content = sentence.repeat(contentSize / sentence.length() + 1).substring(0, contentSize);
+    }
+
+    @Benchmark
+    public String matcher() {
+        String word = matcher.findFirst(title);
+        return word != null ? word : matcher.findFirst(content);
+    }
+
+    @Benchmark
+    public String containsEach() {
+        for (String word : words) {
+            if (title.contains(word) || content.contains(word)) {
+                return word;
+            }
+        }
+        return null;
+    }
+}
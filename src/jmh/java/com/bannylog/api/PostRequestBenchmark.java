@@ -0,0 +1,78 @@
+package com.bannylog.api;
+
+import com.bannylog.api.domain.Post;
+import com.bannylog.api.domain.PostEditor;
+import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.validation.ForbiddenWordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 중 DB를 거치지 않는 구간 벤치마크
+ * - PostCreate.validate, PostSearch.getOffset, PostEditor 병합
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PostRequestBenchmark {
+
+    private ForbiddenWordMatcher forbiddenWords;
+    private PostCreate postCreate;
+    private PostSearch postSearch;
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        forbiddenWords = ForbiddenWordMatcher.of(List.of("바보"));
+
+        postCreate = PostCreate.builder()
+                .title("낙성대 반짝이의 하루")
+                .content("오늘은 날씨가 좋았다. ".repeat(100))
+                .build();
+
+        postSearch = PostSearch.builder()
+                .page(37)
+                .size(20)
+                .build();
+
+        post = Post.builder()
+                .title("반짝이")
+                .content("낙성대 ".repeat(1000))
+                .build();
+    }
+
+    @Benchmark
+    public PostCreate validate() {
+        postCreate.validate(forbiddenWords);
+        return postCreate;
+    }
+
+    @Benchmark
+    public long offset() {
+        return postSearch.getOffset();
+    }
+
+    // 제목만 수정 (content는 null -> 기존 값 유지)
+    @Benchmark
+    public PostEditor editorMerge() {
+        return post.toEditor()
+                .title("지워니")
+                .content(null)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.bannylog.api;
+
+import com.bannylog.api.domain.Post;
+import com.bannylog.api.response.PostResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 응답 생성 / 직렬화 벤치마크
+ * - contentSize: 글 하나의 본문 길이
+ * - listSize: 목록 조회 한 페이지의 글 개수
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PostResponseBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int contentSize;
+
+    @Param({"10", "100"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private Post post;
+    private String longTitle;
+    private String content;
+    private List<PostResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // 스프링 MVC와 같은 설정의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        longTitle = "낙성대 반짝이의 아주 긴 제목입니다";
+        content = "가".repeat(contentSize);
+        post = Post.builder()
+                .title(longTitle)
+                .content(content)
+                .build();
+
+        responses = IntStream.range(0, listSize)
+                .mapToObj(i -> PostResponse.builder()
+                        .id((long) i)
+                        .title(longTitle)
+                        .content(content)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 단건 조회 응답 (제목 10글자 substring 포함)
+    @Benchmark
+    public PostResponse buildWithTitleTruncation() {
+        return PostResponse.builder()
+                .id(1L)
+                .title(longTitle)
+                .content(content)
+                .build();
+    }
+
+    // 목록 조회 응답
+    @Benchmark
+    public PostResponse fromEntity() {
+        return new PostResponse(post);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bannylog.api.cache;
+
+import lombok.Getter;
+
+/**
+ * 캐시 사이즈 조정을 위한 통계
+ * - hits / misses: 캐시 적중 / 미적중 횟수
+ * - evictions: 최대 개수 초과 또는 TTL 만료로 제거된 횟수
+ * - invalidations: 글 수정/삭제로 제거된 횟수
+ */
+@Getter
+public class CacheStats {
+
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+
+    public CacheStats(int size, int maxSize, long hits, long misses, long evictions, long invalidations) {
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+    }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,179 @@
+package com.bannylog.api.cache;
+
+import com.bannylog.api.response.PostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 글 단건 조회 캐시 (read-through)
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 글부터 제거 (LRU)
+ * - TTL이 지난 글은 조회 시점에 제거
+ * - 수정/삭제 시 해당 글만 invalidate
+ * - 같은 글의 동시 미스는 한 번만 조회 (SingleFlight), 조회한 값은 flight가 끝나기 전에 캐시에 넣음
+ */
+@Component
+public class PostCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // accessOrder = true -> get 할 때마다 순서가 갱신되어 LRU로 동작
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // invalidate 될 때마다 증가, 조회 중에 invalidate 된 값은 캐시에 넣지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final SingleFlight<Long, PostResponse> loads = new SingleFlight<>();
+
+    public PostCache(@Value("${bannylog.cache.post.max-size:1000}") int maxSize,
+                     @Value("${bannylog.cache.post.ttl:60s}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 캐시에 있으면 캐시 값을, 없으면 loader로 조회한 값을 캐시에 넣고 리턴
+     * @param id
+     * @param loader
+     * @return postResponse
+     */
+    public PostResponse get(Long id, Function<Long, PostResponse> loader) {
+        PostResponse cached = getIfPresent(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        return loads.execute(id, key -> {
+            // 앞선 조회가 캐시에 넣고 flight를 끝낸 직후에 들어온 요청은 다시 조회하지 않음
+            PostResponse loadedByOther = getIfPresent(key);
+            if (loadedByOther != null) {
+                return loadedByOther;
+            }
+
+            long startGeneration = generation.get();
+            PostResponse loaded = loader.apply(key);
+            put(key, loaded, startGeneration);
+            return loaded;
+        });
+    }
+
+    /**
+     * 여러 건 조회
+     * - 캐시에 없는 글만 모아서 loader로 한 번에 조회하고 캐시에 넣음
+     * @param ids
+     * @param loader 캐시에 없는 ID 목록 -> 조회된 글 (없는 글은 빠짐)
+     * @return id -> postResponse (없는 글은 빠짐)
+     */
+    public Map<Long, PostResponse> getAll(Collection<Long> ids, Function<List<Long>, Map<Long, PostResponse>> loader) {
+        Map<Long, PostResponse> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            PostResponse cached = getIfPresent(id);
+            if (cached != null) {
+                hits.increment();
+                found.put(id, cached);
+            } else {
+                misses.increment();
+                missing.add(id);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        long startGeneration = generation.get();
+        Map<Long, PostResponse> loaded = loader.apply(missing);
+        loaded.forEach((id, value) -> put(id, value, startGeneration));
+        found.putAll(loaded);
+        return found;
+    }
+
+    public void invalidate(Long id) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (entries.remove(id) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        synchronized (entries) {
+            return new CacheStats(entries.size(), maxSize, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+        }
+    }
+
+    /**
+     * 캐시에 있는 경우에만 리턴, 없으면 null (조회하지 않음)
+     * @param id
+     * @return postResponse
+     */
+    public PostResponse getIfPresent(Long id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(id);
+                evictions.increment();
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void put(Long id, PostResponse value, long startGeneration) {
+        synchronized (entries) {
+            // 조회하는 동안 수정/삭제가 있었다면 예전 값일 수 있으므로 캐시하지 않음
+            if (generation.get() != startGeneration) {
+                return;
+            }
+
+            entries.put(id, new Entry(value, System.nanoTime() + ttlNanos));
+
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final PostResponse value;
+        private final long expiresAt;
+
+        private Entry(PostResponse value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
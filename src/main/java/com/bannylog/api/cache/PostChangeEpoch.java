@@ -0,0 +1,63 @@
+package com.bannylog.api.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 글 변경 세대 번호
+ * - 글이 생성/수정/삭제되어 커밋될 때마다 1씩 증가
+ * - 목록 ETag, 목록 캐시처럼 "어떤 글이든 바뀌었는지"만 알면 되는 곳에서 사용
+ * - 재시작 후 예전 ETag와 겹치지 않도록 기동 시각(ms)에서 시작
+ * - 커밋 직전(beginCommit)부터 epoch 증가(endCommit)까지는 stable()이 null을 리턴
+ *   -> 커밋은 끝났지만 아직 epoch가 증가하지 않은 사이에 예전 목록이나 ETag가 쓰이지 않음
+ */
+@Component
+public class PostChangeEpoch {
+
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis());
+
+    // 커밋 중인 변경 개수
+    private final AtomicInteger committing = new AtomicInteger();
+
+    /**
+     * 커밋 중인 변경이 없을 때의 epoch, 커밋 중이면 null (캐시/ETag를 사용하지 않음)
+     * @return epoch
+     */
+    public Long stable() {
+        while (true) {
+            long current = epoch.get();
+            if (committing.get() != 0) {
+                return null;
+            }
+            // 읽는 사이에 커밋이 끝났으면(endCommit) epoch가 바뀌어 있으므로 다시 읽음
+            if (epoch.get() == current) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 밖에서 바로 반영된 변경
+     */
+    public void advance() {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * 커밋 직전에 호출, 반드시 endCommit과 짝을 이뤄야 함
+     */
+    public void beginCommit() {
+        committing.incrementAndGet();
+    }
+
+    /**
+     * 커밋(또는 롤백) 후 호출
+     * - committing을 줄이기 전에 epoch를 먼저 증가시켜야 stable()이 예전 epoch를 리턴하지 않음
+     */
+    public void endCommit() {
+        epoch.incrementAndGet();
+        committing.decrementAndGet();
+    }
+}
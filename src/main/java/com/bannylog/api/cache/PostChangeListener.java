@@ -0,0 +1,105 @@
+package com.bannylog.api.cache;
+
+import com.bannylog.api.domain.Post;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 글 엔티티가 insert/update/delete 된 트랜잭션의 커밋 전후로 PostChangeEpoch 갱신
+ * - flush 시점에 커밋 직전(beginCommit)/커밋 후(endCommit) 작업을 트랜잭션에 등록
+ *   -> 커밋 직후 epoch가 증가하기 전까지의 틈에도 예전 목록 캐시/ETag가 쓰이지 않음
+ * - 서비스를 거치지 않고 리포지토리로 직접 저장한 경우도 포함
+ * - JPQL/QueryDSL bulk 쿼리는 이벤트가 발생하지 않으므로 호출한 쪽에서 직접 처리해야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class PostChangeListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final PostChangeEpoch postChangeEpoch;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        registerCommitWindow(event.getPersister(), event.getSession());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        registerCommitWindow(event.getPersister(), event.getSession());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        registerCommitWindow(event.getPersister(), event.getSession());
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void registerCommitWindow(EntityPersister persister, EventSource session) {
+        if (!Post.class.equals(persister.getMappedClass())) {
+            return;
+        }
+
+        CommitWindow window = new CommitWindow();
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) window);
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) window);
+    }
+
+    /**
+     * 커밋 직전에 beginCommit, 커밋(또는 롤백) 후에 endCommit
+     * - flush 도중 실패해서 커밋 직전 작업이 실행되지 않았으면 endCommit 대신 advance
+     */
+    private class CommitWindow implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private boolean begun;
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            postChangeEpoch.beginCommit();
+            begun = true;
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            if (begun) {
+                postChangeEpoch.endCommit();
+            } else {
+                postChangeEpoch.advance();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.bannylog.api.cache;
+
+import com.bannylog.api.domain.Post;
+import com.bannylog.api.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.stream.Stream;
+
+/**
+ * 존재하는 글 ID의 Bloom filter
+ * - 없는 글 ID 조회(크롤러, 깨진 링크)를 DB 조회 없이 바로 404로 처리하기 위해 사용
+ * - 글이 insert 될 때(커밋 전) 추가되므로 커밋된 글이 필터에 없는 경우는 없음
+ * - 삭제된 글은 필터에 남아 DB에서 확인함
+ * - 기동 후 전체 ID로 채워지기 전까지는 모든 ID를 있을 수도 있는 것으로 취급
+ * - 이 애플리케이션을 거치지 않고 DB에 직접 추가된 글은 재시작 전까지 404가 될 수 있음
+ */
+@Slf4j
+@Component
+public class PostIdFilter implements PostInsertEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BloomFilter filter;
+
+    private volatile boolean ready;
+
+    public PostIdFilter(EntityManagerFactory entityManagerFactory,
+                        PostRepository postRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${bannylog.post-id-filter.expected-posts:1000000}") long expectedPosts,
+                        @Value("${bannylog.post-id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.filter = new BloomFilter(expectedPosts, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_INSERT, this);
+    }
+
+    /**
+     * 기동 시 전체 글 ID로 필터 채우기
+     * - 채우는 동안 insert 된 글도 같은 필터에 추가되므로 빠지는 ID가 없음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long count = transactionTemplate.execute(status -> {
+            try (Stream<Long> ids = postRepository.streamAllIds()) {
+                return ids.mapToLong(id -> {
+                    filter.put(id);
+                    return 1;
+                }).sum();
+            }
+        });
+
+        ready = true;
+        log.info("post id filter ready: posts={}, bits={}, hashes={}", count, filter.getBitSize(), filter.getHashCount());
+    }
+
+    /**
+     * @return false면 확실히 없는 글
+     */
+    public boolean mightExist(Long id) {
+        return !ready || filter.mightContain(id);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Post) {
+            filter.put((Long) event.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+}
@@ -0,0 +1,126 @@
+package com.bannylog.api.cache;
+
+import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.response.PostResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 글 목록 앞쪽 페이지 캐시
+ * - page <= maxPages, size <= maxPageSize 인 요청만 (page, size) 단위로 캐시
+ * - 값마다 조회 시작 시점의 PostChangeEpoch를 함께 저장하고, 현재 epoch와 다르면 사용하지 않음
+ *   -> 글이 바뀌면 epoch 증가 한 번으로 전체 무효화 (항목을 돌면서 지우지 않음)
+ * - 조회 시작 전에 epoch를 읽기 때문에 조회 도중 커밋된 변경이 있으면 그 결과는 바로 무효
+ * - 커밋 중인 변경이 있으면(PostChangeEpoch.stable() == null) 캐시를 읽지도 넣지도 않음
+ * - 락 없이 동작하므로 조회가 글 쓰기를 막지 않음
+ */
+@Component
+public class PostListCache {
+
+    private final int maxPages;
+    private final int maxPageSize;
+    private final PostChangeEpoch postChangeEpoch;
+
+    // 키 개수는 maxPages * maxPageSize 이하로 제한됨
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public PostListCache(@Value("${bannylog.cache.post-list.max-pages:5}") int maxPages,
+                         @Value("${bannylog.cache.post-list.max-page-size:100}") int maxPageSize,
+                         PostChangeEpoch postChangeEpoch) {
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.postChangeEpoch = postChangeEpoch;
+    }
+
+    /**
+     * 캐시 대상 페이지면 캐시 값을, 아니면 loader로 조회한 값을 리턴
+     * @param postSearch
+     * @param loader
+     * @return 수정할 수 없는 목록
+     */
+    public List<PostResponse> get(PostSearch postSearch, Function<PostSearch, List<PostResponse>> loader) {
+        int page = Math.max(1, postSearch.getPage());
+        int size = postSearch.getLimit();
+        if (page > maxPages || size > maxPageSize) {
+            return loader.apply(postSearch);
+        }
+
+        Long epoch = postChangeEpoch.stable();
+        if (epoch == null) {
+            return loader.apply(postSearch);
+        }
+
+        Key key = new Key(page, size);
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.epoch == epoch) {
+            hits.increment();
+            return cached.posts;
+        }
+
+        misses.increment();
+        if (cached != null) {
+            invalidations.increment();
+        }
+
+        List<PostResponse> loaded = List.copyOf(loader.apply(postSearch));
+
+        // 동시에 조회한 다른 요청이 더 최신 epoch 값을 넣었으면 유지
+        entries.merge(key, new Entry(epoch, loaded), (current, candidate) -> current.epoch > candidate.epoch ? current : candidate);
+        return loaded;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(entries.size(), maxPages * maxPageSize, hits.sum(), misses.sum(), 0, invalidations.sum());
+    }
+
+    private static class Key {
+
+        private final int page;
+        private final int size;
+
+        private Key(int page, int size) {
+            this.page = page;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return page == key.page && size == key.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(page, size);
+        }
+    }
+
+    private static class Entry {
+
+        private final long epoch;
+        private final List<PostResponse> posts;
+
+        private Entry(long epoch, List<PostResponse> posts) {
+            this.epoch = epoch;
+            this.posts = posts;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.bannylog.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 글 조회수 (write-behind)
+ * - 조회할 때마다 UPDATE 하지 않고 글별 LongAdder(스레드 경합 시 여러 칸에 나눠서 더함)에 모아둠
+ * - flush-interval-ms마다 지난 반영 이후 늘어난 만큼 batch UPDATE 한 번으로 반영, 종료 시에도 남은 증가분 반영
+ * - 모아둔 값은 줄이지 않고 반영한 양만 따로 기록 -> 반영과 동시에 들어온 조회도 유실되지 않음
+ * - 응답의 조회수는 캐시에 넣지 않고 응답할 때마다 (기록 시작 전 조회수 + 기록한 조회수)로 계산
+ *   -> 반영해도 글 캐시/목록 캐시를 지우지 않음
+ * - 기록 시작 전 조회수는 DB에서 읽은 조회수 - 그때까지 반영한 양, 읽는 도중 반영이 커밋됐으면 조회수만 다시 읽음
+ * - 반영할 것이 없고 idle-flushes번 연속 쓰이지 않은 글은 기록에서 제거 (메모리가 전체 글 수만큼 늘지 않도록)
+ *   -> 제거된 글은 다음 응답 때 조회수만 다시 읽음
+ * - 반영에 실패하면 다음 주기에 다시 반영
+ * - 재시작 전에 반영하지 못한 증가분(비정상 종료)은 유실됨
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String UPDATE_SQL = "update post set view_count = view_count + ? where id = ?";
+
+    private static final long UNKNOWN = -1;
+
+    // Views 상태 (제거와 동시에 들어온 조회를 잃지 않기 위해 사용)
+    private static final int ACTIVE = 0;
+    private static final int RETIRING = 1;
+    private static final int REMOVED = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxIdleFlushes;
+
+    // 글 ID -> 조회수, 최근에 조회했거나 응답한 글만
+    private final Map<Long, Views> views = new ConcurrentHashMap<>();
+
+    // 반영을 커밋하는 동안 홀수 (DB에서 읽은 조회수에 반영분이 포함됐는지 판단)
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${bannylog.view-count.idle-flushes:12}") int maxIdleFlushes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxIdleFlushes = maxIdleFlushes;
+    }
+
+    public void increment(Long id) {
+        while (true) {
+            Views counted = views.computeIfAbsent(id, key -> new Views());
+            counted.recorded.increment();
+
+            int state;
+            while ((state = counted.state.get()) == RETIRING) {
+                Thread.onSpinWait();
+            }
+            if (state == ACTIVE) {
+                return;
+            }
+            // flush가 제거한 기록에 더했으면 새 기록에 다시 더함
+        }
+    }
+
+    /**
+     * 기록 중인 글 개수
+     */
+    public int size() {
+        return views.size();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (반영 중인 값 포함)
+     */
+    public long pending(Long id) {
+        Views counted = views.get(id);
+        return counted == null ? 0 : counted.recorded.sum() - counted.committed;
+    }
+
+    /**
+     * DB에서 조회수를 읽기 전에 호출, remember / viewCount에 그대로 전달
+     */
+    public long readStamp() {
+        return flushSequence.get();
+    }
+
+    /**
+     * DB에서 읽은 조회수로 기록 시작 전 조회수 기록 (캐시에 넣는 글)
+     * @param stamp DB에서 읽기 전의 readStamp()
+     * @param persisted DB에서 읽은 조회수
+     * @param reader 읽는 도중 반영이 커밋됐으면 조회수만 다시 읽음
+     */
+    public void remember(Long id, long stamp, long persisted, LongSupplier reader) {
+        Views counted = views.computeIfAbsent(id, key -> new Views());
+        counted.markUsed();
+        while (!rememberIfStable(counted, stamp, persisted) && counted.base == UNKNOWN) {
+            stamp = awaitStamp();
+            persisted = reader.getAsLong();
+        }
+    }
+
+    /**
+     * 응답할 조회수 (캐시에 넣는 글은 remember 이후)
+     * @return 기록 시작 전 조회수를 모르면(제거된 글 포함) null
+     */
+    public Long viewCount(Long id) {
+        Views counted = views.get(id);
+        if (counted == null || counted.base == UNKNOWN) {
+            return null;
+        }
+        counted.markUsed();
+        return counted.base + counted.recorded.sum();
+    }
+
+    /**
+     * 응답할 조회수 (캐시에 넣지 않는 글 - 커서 목록, 내보내기)
+     * - 기록 중이 아닌 글은 따로 기록하지 않음
+     * - 읽는 도중 반영이 커밋됐으면 다시 읽지 않고 DB 조회수 + 반영 안 된 조회수로 근사
+     * @param stamp DB에서 읽기 전의 readStamp()
+     * @param persisted DB에서 읽은 조회수
+     */
+    public long viewCount(Long id, long stamp, long persisted) {
+        Views counted = views.get(id);
+        if (counted == null) {
+            return persisted;
+        }
+        counted.markUsed();
+        if (counted.base == UNKNOWN && !rememberIfStable(counted, stamp, persisted)) {
+            return persisted + counted.recorded.sum() - counted.committed;
+        }
+        return counted.base + counted.recorded.sum();
+    }
+
+    /**
+     * 삭제된 글
+     */
+    public void remove(Long id) {
+        views.remove(id);
+    }
+
+    /**
+     * 모인 증가분 반영 후 오래 쓰이지 않은 글 제거
+     * @return 반영한 글 개수
+     */
+    @Scheduled(fixedDelayString = "${bannylog.view-count.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        List<Long> ids = new ArrayList<>();
+        List<Views> flushed = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, Views> entry : views.entrySet()) {
+            Views counted = entry.getValue();
+            long recorded = counted.recorded.sum();
+            long delta = recorded - counted.sent;
+            if (delta == 0) {
+                continue;
+            }
+
+            counted.sent = recorded;
+            ids.add(entry.getKey());
+            flushed.add(counted);
+            batch.add(new Object[]{delta, entry.getKey()});
+        }
+
+        if (batch.isEmpty()) {
+            removeIdle();
+            return 0;
+        }
+
+        int[] updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                flushSequence.incrementAndGet();
+                return jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            });
+            for (Views counted : flushed) {
+                counted.committed = counted.sent;
+            }
+        } catch (RuntimeException e) {
+            log.warn("view count flush failed, retrying next time: posts={}", batch.size(), e);
+            for (Views counted : flushed) {
+                counted.sent = counted.committed;
+            }
+            return 0;
+        } finally {
+            // 커밋(또는 롤백)과 committed 갱신이 끝난 뒤 짝수로
+            if ((flushSequence.get() & 1) != 0) {
+                flushSequence.incrementAndGet();
+            }
+        }
+
+        // 반영 사이에 삭제된 글은 더 기록하지 않음
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                views.remove(ids.get(i), flushed.get(i));
+            }
+        }
+        removeIdle();
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("view counts flushed on shutdown: posts={}", flushed);
+    }
+
+    // 반영할 것이 없고 maxIdleFlushes번 연속 쓰이지 않은 글 제거 (flush 안에서만 호출)
+    private void removeIdle() {
+        for (Map.Entry<Long, Views> entry : views.entrySet()) {
+            Views counted = entry.getValue();
+            boolean used = counted.used;
+            counted.used = false;
+            if (used || counted.recorded.sum() != counted.committed) {
+                counted.idleFlushes = 0;
+                continue;
+            }
+            if (++counted.idleFlushes < maxIdleFlushes) {
+                continue;
+            }
+
+            // RETIRING으로 바꾼 뒤에도 새 조회가 없을 때만 제거
+            // -> increment는 더한 뒤 상태를 확인하므로, 여기서 못 본 조회는 increment가 REMOVED를 보고 새 기록에 다시 더함
+            counted.state.set(RETIRING);
+            if (counted.recorded.sum() != counted.committed) {
+                counted.idleFlushes = 0;
+                counted.state.set(ACTIVE);
+                continue;
+            }
+            views.remove(entry.getKey(), counted);
+            counted.state.set(REMOVED);
+        }
+    }
+
+    // 읽는 동안 반영이 커밋되지 않았으면(stamp가 짝수이고 그대로) 기록 시작 전 조회수 기록
+    private boolean rememberIfStable(Views counted, long stamp, long persisted) {
+        long committed = counted.committed;
+        if ((stamp & 1) != 0 || flushSequence.get() != stamp) {
+            return false;
+        }
+        counted.base = persisted - committed;
+        return true;
+    }
+
+    // 커밋 중인 반영이 끝날 때까지 기다린 뒤의 stamp (반영 한 번은 batch UPDATE 한 번이라 짧음)
+    private long awaitStamp() {
+        long stamp;
+        while (((stamp = flushSequence.get()) & 1) != 0) {
+            LockSupport.parkNanos(100_000);
+        }
+        return stamp;
+    }
+
+    private static final class Views {
+
+        // 기록한 조회수 (줄어들지 않음)
+        private final LongAdder recorded = new LongAdder();
+
+        // recorded 중 반영하려고 가져간 양 (flush에서만 변경)
+        private long sent;
+
+        // recorded 중 DB에 커밋된 양
+        private volatile long committed;
+
+        // 기록 시작 전 조회수 (DB 조회수 - committed)
+        private volatile long base = UNKNOWN;
+
+        private final AtomicInteger state = new AtomicInteger(ACTIVE);
+
+        // 지난 flush 이후 응답에 쓰였는지
+        private volatile boolean used;
+
+        // 연속으로 쓰이지 않은 flush 횟수 (flush에서만 변경)
+        private int idleFlushes;
+
+        // 이미 표시된 경우에는 쓰지 않음 (조회가 몰릴 때 같은 값을 계속 쓰지 않도록)
+        private void markUsed() {
+            if (!used) {
+                used = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.bannylog.api.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 인기 글 순위 (조회/수정 활동에 시간 감쇠 적용)
+ * - forward decay: 활동 하나의 점수 = 가중치 * exp(λ * (활동 시각 - 기준 시각)), λ = ln2 / half-life
+ *   -> 저장된 점수는 시간이 지나도 바뀌지 않고 새 활동이 생긴 글의 점수만 올라가므로,
+ *      상위 capacity개 밖의 글은 새 활동이 있을 때만 순위에 들어올 수 있음 (주기적으로 전체를 다시 정렬할 필요 없음)
+ *   -> 현재 점수는 저장된 점수 * exp(-λ * (지금 - 기준 시각))
+ * - 활동은 글별 DoubleAdder에 모아두고 refresh-interval-ms마다 변경된 글만 순위에 반영
+ * - 조회는 마지막으로 반영된 순위 스냅샷만 읽으므로 락, DB 조회 없음
+ * - 지수가 너무 커지기 전에 기준 시각을 옮기면서 모든 점수를 같은 비율로 줄이고, 거의 0이 된 글은 제거
+ */
+@Component
+public class TrendingPostRanking {
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double EDIT_WEIGHT = 5;
+
+    // 기준 시각 이후 지수(λ * 경과 시간)가 이 값을 넘으면 기준 시각을 옮김 (exp 오버플로 방지)
+    private static final double MAX_EXPONENT = 64;
+
+    // 현재 점수가 이 값보다 작고 순위에 없는 글은 정리할 때 제거
+    private static final double MIN_SCORE = 0.01;
+
+    // refresh 이 횟수마다 점수가 거의 0이 된 글 정리
+    private static final int PRUNE_EVERY = 60;
+
+    // 점수가 높은 순, 같으면 최신 글(큰 ID)이 먼저
+    private static final Comparator<Ranked> BEST_FIRST = Comparator.comparingDouble(Ranked::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::getId).reversed());
+
+    private final double lambdaPerMilli;
+    private final int capacity;
+    private final LongSupplier clock;
+
+    private volatile long landmark;
+
+    // 아직 순위에 반영하지 않은 활동 (기록 스레드 -> refresh)
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final Queue<Long> removed = new ConcurrentLinkedQueue<>();
+
+    // 아래는 refresh 안에서만 사용 (synchronized)
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> ranking = new TreeSet<>(BEST_FIRST);
+    private final Map<Long, Ranked> rankedById = new HashMap<>();
+    private int refreshes;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TrendingPostRanking(@Value("${bannylog.trending.half-life:6h}") Duration halfLife,
+                               @Value("${bannylog.trending.capacity:100}") int capacity) {
+        this(halfLife, capacity, System::currentTimeMillis);
+    }
+
+    TrendingPostRanking(Duration halfLife, int capacity, LongSupplier clock) {
+        this.lambdaPerMilli = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.clock = clock;
+        this.landmark = clock.getAsLong();
+        this.snapshot = new Snapshot(landmark, List.of());
+    }
+
+    public void recordView(Long id) {
+        record(id, VIEW_WEIGHT);
+    }
+
+    public void recordEdit(Long id) {
+        record(id, EDIT_WEIGHT);
+    }
+
+    // 삭제된 글은 다음 refresh에서 순위와 점수에서 제거
+    public void remove(Long id) {
+        pending.remove(id);
+        removed.add(id);
+    }
+
+    /**
+     * 현재 점수가 높은 순으로 최대 size개 (size는 최대 capacity)
+     * @return size가 0 이하면 빈 목록
+     */
+    public List<Ranked> top(int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        double decay = Math.exp(-lambdaPerMilli * (clock.getAsLong() - current.landmark));
+
+        List<Ranked> top = new ArrayList<>(Math.min(size, current.ranking.size()));
+        for (Ranked ranked : current.ranking) {
+            if (top.size() >= size) {
+                break;
+            }
+            top.add(new Ranked(ranked.id, ranked.score * decay));
+        }
+        return top;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 모아둔 활동을 순위에 반영하고 스냅샷 교체
+     */
+    @Scheduled(fixedDelayString = "${bannylog.trending.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+            Long id = entry.getKey();
+            Pending activity = entry.getValue();
+
+            double delta = activity.sum.sumThenReset();
+            if (delta == 0) {
+                // 한 주기 동안 활동이 없던 글은 제거, 제거 직전에 들어온 활동은 다시 반영
+                // (그 뒤에 들어온 활동은 record가 새 활동으로 옮김)
+                activity.retired = true;
+                pending.remove(id, activity);
+                delta = activity.sum.sumThenReset();
+                if (delta == 0) {
+                    continue;
+                }
+            }
+
+            // 활동은 기록될 때의 기준 시각으로 계산되어 있으므로 현재 기준 시각으로 변환
+            double score = scores.merge(id, delta * Math.exp(lambdaPerMilli * (activity.landmark - landmark)), Double::sum);
+            rank(id, score);
+        }
+
+        // 삭제 직전에 기록된 활동까지 반영한 뒤에 제거
+        boolean shrunk = false;
+        for (Long id = removed.poll(); id != null; id = removed.poll()) {
+            scores.remove(id);
+            shrunk |= unrank(id);
+        }
+
+        if (lambdaPerMilli * (clock.getAsLong() - landmark) > MAX_EXPONENT) {
+            moveLandmark();
+            shrunk = true;
+        } else if (++refreshes % PRUNE_EVERY == 0) {
+            prune();
+        }
+
+        // 삭제/정리로 순위가 비었으면 남은 점수로 채움
+        if (shrunk && ranking.size() < capacity && scores.size() > ranking.size()) {
+            scores.forEach(this::rank);
+        }
+
+        snapshot = new Snapshot(landmark, List.copyOf(ranking));
+    }
+
+    private void record(Long id, double weight) {
+        long at = clock.getAsLong();
+        while (true) {
+            Pending activity = pending.computeIfAbsent(id, key -> new Pending(landmark));
+            activity.sum.add(weight * Math.exp(lambdaPerMilli * (at - activity.landmark)));
+            if (!activity.retired) {
+                return;
+            }
+
+            // refresh가 제거하는 활동에 더했으면, 아직 반영되지 않고 남은 값을 새 활동으로 옮김
+            // -> 더한 값은 refresh의 sumThenReset 또는 여기서의 sumThenReset 중 한 번만 가져감
+            while (pending.get(id) == activity) {
+                Thread.onSpinWait();
+            }
+            double orphan = activity.sum.sumThenReset();
+            if (orphan == 0) {
+                return;
+            }
+            weight = orphan;
+            at = activity.landmark;
+        }
+    }
+
+    // 상위 capacity개에 들어가면 순위에 추가하고 밀려난 글 제거
+    private void rank(Long id, double score) {
+        Ranked previous = rankedById.get(id);
+        if (previous != null && previous.score == score) {
+            return;
+        }
+        unrank(id);
+
+        if (ranking.size() >= capacity && BEST_FIRST.compare(new Ranked(id, score), ranking.last()) > 0) {
+            return;
+        }
+
+        Ranked ranked = new Ranked(id, score);
+        ranking.add(ranked);
+        rankedById.put(id, ranked);
+
+        if (ranking.size() > capacity) {
+            rankedById.remove(ranking.pollLast().id);
+        }
+    }
+
+    private boolean unrank(Long id) {
+        Ranked ranked = rankedById.remove(id);
+        return ranked != null && ranking.remove(ranked);
+    }
+
+    // 기준 시각을 지금으로 옮기고 모든 점수를 같은 비율로 줄임 (순서는 그대로)
+    private void moveLandmark() {
+        long now = clock.getAsLong();
+        double factor = Math.exp(-lambdaPerMilli * (now - landmark));
+        landmark = now;
+
+        scores.replaceAll((id, score) -> score * factor);
+
+        // 이전 기준 시각으로 쌓이던 활동은 반영 후 제거 -> 이후 활동은 새 기준 시각으로 기록
+        for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+            Pending activity = entry.getValue();
+            if (activity.landmark == now) {
+                continue;
+            }
+            activity.retired = true;
+            if (!pending.remove(entry.getKey(), activity)) {
+                continue;
+            }
+            double delta = activity.sum.sumThenReset();
+            if (delta != 0) {
+                scores.merge(entry.getKey(), delta * Math.exp(lambdaPerMilli * (activity.landmark - now)), Double::sum);
+            }
+        }
+
+        ranking.clear();
+        rankedById.clear();
+        prune();
+        scores.forEach(this::rank);
+    }
+
+    private void prune() {
+        double decay = Math.exp(-lambdaPerMilli * (clock.getAsLong() - landmark));
+        Iterator<Map.Entry<Long, Double>> iterator = scores.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Double> entry = iterator.next();
+            if (entry.getValue() * decay < MIN_SCORE && !rankedById.containsKey(entry.getKey())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public static final class Ranked {
+
+        private final long id;
+        private final double score;
+
+        private Ranked(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    private static final class Pending {
+
+        private final long landmark;
+        private final DoubleAdder sum = new DoubleAdder();
+
+        // refresh가 pending에서 제거하기 직전에 true (이후에 더한 값은 record가 새 활동으로 옮김)
+        private volatile boolean retired;
+
+        private Pending(long landmark) {
+            this.landmark = landmark;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final long landmark;
+        private final List<Ranked> ranking;
+
+        private Snapshot(long landmark, List<Ranked> ranking) {
+            this.landmark = landmark;
+            this.ranking = ranking;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.bannylog.api.config;
+
+import com.bannylog.api.metrics.MetricsInterceptor;
+import com.bannylog.api.metrics.MetricsRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @RestController, @Service 빈의 메서드 호출 시간 측정
+     * - 트랜잭션 커밋 시간까지 포함되도록 가장 바깥에서 실행
+     */
+    @Bean
+    public Advisor metricsAdvisor(MetricsRegistry metricsRegistry) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(RestController.class))
+                .union(new AnnotationMatchingPointcut(Service.class));
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new MetricsInterceptor(metricsRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
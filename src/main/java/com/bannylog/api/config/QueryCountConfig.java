@@ -0,0 +1,30 @@
+package com.bannylog.api.config;
+
+import com.bannylog.api.metrics.QueryCountInspector;
+import com.bannylog.api.metrics.QueryCountInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청별 SQL 실행 개수를 X-Query-Count 응답 헤더로 노출 (운영 환경 제외)
+ * - 테스트에서 N+1 등 쿼리 개수 증가를 확인하기 위한 용도
+ */
+@Profile("!prod")
+@Configuration
+public class QueryCountConfig implements WebMvcConfigurer {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryCountInterceptor());
+    }
+}
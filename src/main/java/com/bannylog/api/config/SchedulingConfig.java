@@ -0,0 +1,16 @@
+package com.bannylog.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * - 금지어 사전 다시 읽기, 조회수 반영, 인기 글 순위 반영
+ * - bannylog.scheduling.enabled=false 이면 비활성화 (테스트에서는 직접 호출)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "bannylog.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,73 @@
+package com.bannylog.api.config;
+
+import com.bannylog.api.metrics.ServerTimingFilter;
+import com.bannylog.api.metrics.ServerTimingInterceptor;
+import com.bannylog.api.metrics.TimingInterceptor;
+import com.bannylog.api.metrics.TimingJackson2HttpMessageConverter;
+import com.bannylog.api.metrics.TimingPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 응답마다 Server-Timing 헤더로 controller / service / db / serialization 구간별 시간 노출
+ */
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public Advisor controllerTimingAdvisor() {
+        return timingAdvisor(new AnnotationMatchingPointcut(RestController.class), TimingPhase.CONTROLLER);
+    }
+
+    @Bean
+    public Advisor serviceTimingAdvisor() {
+        return timingAdvisor(new AnnotationMatchingPointcut(Service.class), TimingPhase.SERVICE);
+    }
+
+    @Bean
+    public Advisor repositoryTimingAdvisor() {
+        ClassFilter repositories = new RootClassFilter(Repository.class);
+        return timingAdvisor(new ComposablePointcut(repositories), TimingPhase.REPOSITORY);
+    }
+
+    /**
+     * 기본 MappingJackson2HttpMessageConverter 대신 등록됨
+     */
+    @Bean
+    public TimingJackson2HttpMessageConverter timingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * postHandle 전에 커밋되는 응답(304 등)의 헤더 기록
+     */
+    @Bean
+    public ServerTimingFilter serverTimingFilter() {
+        return new ServerTimingFilter();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingInterceptor());
+    }
+
+    private static Advisor timingAdvisor(Pointcut pointcut, TimingPhase phase) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new TimingInterceptor(phase));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
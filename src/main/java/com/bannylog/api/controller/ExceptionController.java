@@ -1,10 +1,13 @@
 package com.bannylog.api.controller;
 
 import com.bannylog.api.exception.BannylogException;
+import com.bannylog.api.metrics.MetricsRegistry;
 import com.bannylog.api.response.ErrorResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -14,12 +17,22 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionController {
 
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * 요청 본문 검증 실패
+     * - 컨트롤러 메서드가 실행되기 전에 발생해 MetricsInterceptor가 세지 못하므로 여기서 요청 수와 상태 코드 집계
+     */
     @ResponseBody
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ErrorResponse invalidRequestHandler(MethodArgumentNotValidException e) {
+        metricsRegistry.recordRequest(true);
+        metricsRegistry.recordStatusCode(HttpStatus.BAD_REQUEST.value());
+
         ErrorResponse response = ErrorResponse.builder()
                 .code("400")
                 .message(("잘못된 요청입니다."))
@@ -32,6 +45,22 @@ public class ExceptionController {
         return response;
     }
 
+    /**
+     * 같은 글을 동시에 수정해서 먼저 커밋된 수정과 충돌한 경우
+     * - 요청 수는 MetricsInterceptor에서 세므로 상태 코드만 집계 (BannylogException이 아니라서 집계되지 않음)
+     */
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ErrorResponse optimisticLockHandler(ObjectOptimisticLockingFailureException e) {
+        metricsRegistry.recordStatusCode(HttpStatus.CONFLICT.value());
+
+        return ErrorResponse.builder()
+                .code("409")
+                .message("다른 요청에 의해 글이 수정되었습니다. 다시 조회한 후 수정해주세요.")
+                .build();
+    }
+
     @ResponseBody
     @ExceptionHandler(BannylogException.class)
     public ResponseEntity<ErrorResponse> bannylogException(BannylogException e) {
@@ -0,0 +1,52 @@
+package com.bannylog.api.controller;
+
+import com.bannylog.api.cache.CacheStats;
+import com.bannylog.api.cache.PostCache;
+import com.bannylog.api.cache.PostListCache;
+import com.bannylog.api.metrics.MetricsRegistry;
+import com.bannylog.api.metrics.MetricsSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 확인용 내부 API
+ */
+@RestController
+@RequiredArgsConstructor
+public class InternalController {
+
+    private final PostCache postCache;
+    private final PostListCache postListCache;
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * 글 단건 캐시 통계 조회
+     * @return cacheStats
+     */
+    @GetMapping("/internal/cache/posts")
+    public CacheStats postCacheStats() {
+        return postCache.stats();
+    }
+
+    /**
+     * 글 목록 캐시 통계 조회
+     * - invalidations: 글 변경 이후 처음 조회되어 다시 채워진 횟수
+     * @return cacheStats
+     */
+    @GetMapping("/internal/cache/post-lists")
+    public CacheStats postListCacheStats() {
+        return postListCache.stats();
+    }
+
+    /**
+     * 요청 수, 예외 상태 코드, 메서드별 응답 시간 조회
+     * @param reset true면 조회 후 집계 구간 초기화
+     * @return metricsSnapshot
+     */
+    @GetMapping("/internal/metrics")
+    public MetricsSnapshot metrics(@RequestParam(defaultValue = "false") boolean reset) {
+        return metricsRegistry.snapshot(reset);
+    }
+}
@@ -1,16 +1,39 @@
 package com.bannylog.api.controller;
 
 import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.request.PostCreateBatch;
+import com.bannylog.api.request.PostETag;
 import com.bannylog.api.request.PostEdit;
+import com.bannylog.api.request.PostField;
+import com.bannylog.api.request.PostLookup;
 import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.response.PostBulkResponse;
+import com.bannylog.api.response.PostCursorResponse;
+import com.bannylog.api.response.PostImportResponse;
 import com.bannylog.api.response.PostResponse;
+import com.bannylog.api.response.PostSuggestResponse;
+import com.bannylog.api.response.PostSummaryResponse;
+import com.bannylog.api.response.PostTrendingResponse;
+import com.bannylog.api.service.PostImportService;
 import com.bannylog.api.service.PostService;
+import com.bannylog.api.validation.ForbiddenWordDictionary;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -66,6 +89,12 @@ public class PostController {
 
     private final PostService postService;
 
+    private final PostImportService postImportService;
+
+    private final ObjectMapper objectMapper;
+
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
+
     /**
      * 글 생성
      * @param request
@@ -76,41 +105,201 @@ public class PostController {
 //        if (request.getTitle().contains("바보")) {
 //            throw new InvalidRequest();
 //        }
-        request.validate();
+        request.validate(forbiddenWordDictionary.current());
         // Case1. 저장한 데이터 Entity -> respons로 응답
         // Case2. postId만 리턴 => Client에서는 해당 id로 글 조회 api를 통해 데이터 수신
         // Case3. 응답 필요 없음 (best), Clent에서 데이터를 잘 관리함
         postService.write(request);
     }
 
+    /**
+     * 글 일괄 생성
+     * - 이관/가져오기 용도, 한 번에 최대 PostCreateBatch.MAX_SIZE개
+     * @param request
+     */
+    @PostMapping("/posts/batch")
+    public void postAll(@RequestBody @Valid PostCreateBatch request) {
+        request.validate(forbiddenWordDictionary.current());
+        postService.writeAll(request.getPosts());
+    }
+
+    /**
+     * 글 가져오기 (NDJSON / CSV)
+     * - 본문을 한 건씩 읽어서 검증하고 bannylog.import.chunk-size 단위로 커밋
+     * - 잘못된 행은 건너뛰고 결과에 행 번호와 사유를 담아 응답
+     * @param contentType application/x-ndjson 또는 text/csv
+     * @param body
+     * @return PostImportResponse
+     */
+    @PostMapping(value = "/posts/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public PostImportResponse importPosts(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                          InputStream body) throws IOException {
+        return postImportService.importPosts(contentType, body);
+    }
+
     /**
      * 글 단건 조회
+     * - 응답에 글 버전으로 만든 ETag를 담고,
+     *   If-None-Match가 현재 ETag와 같으면 content를 읽지 않고 304 응답
+     * - 200, 304 모두 조회수 증가
+     * - 조회수는 ETag에 포함되지 않으므로 weak ETag(W/"3")로 응답 (PostETag)
+     * - fields=id,title 처럼 필드를 선택하면 해당 필드만 조회/응답
      * @param postId
+     * @param fields
+     * @param ifNoneMatch
      * @return postResponse
      */
     @GetMapping("/posts/{postId}")
-    public PostResponse get(@PathVariable Long postId) {
-        return postService.get(postId);
+    public ResponseEntity<PostResponse> get(@PathVariable Long postId,
+                                            @RequestParam(required = false) String fields,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<PostField> selectedFields = PostField.parse(fields);
+
+        if (ifNoneMatch != null) {
+            Long version = postService.getVersion(postId);
+            String eTag = PostETag.of(version, selectedFields);
+            if (PostETag.matchesNoneMatch(ifNoneMatch, eTag)) {
+                postService.increaseViewCount(postId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .build();
+            }
+        }
+
+        PostResponse response = postService.get(postId, selectedFields);
+        postService.increaseViewCount(postId);
+        return ResponseEntity.ok()
+                .eTag(PostETag.of(response.getVersion(), selectedFields))
+                .body(response);
     }
 
     /**
      * 글 목록 조회(검색 + 페이징)
+     * - fields=id,title 처럼 필드를 선택하면 해당 필드만 조회/응답
+     * - 마지막 글 변경 이후 같은 페이지를 다시 요청하면(If-None-Match) 목록 조회 없이 304 응답
      * @param postSearch
+     * @param ifNoneMatch
      * @return List<PostResponse>
      */
     @GetMapping("/posts")
-    public List<PostResponse> getList(@ModelAttribute PostSearch postSearch) {
-        return postService.getList(postSearch);
+    public ResponseEntity<List<PostResponse>> getList(@ModelAttribute PostSearch postSearch,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = postService.getListETag(postSearch);
+        // 검색어 검색이거나 글 변경이 커밋 중이면 ETag 없이 응답
+        if (eTag == null) {
+            return ResponseEntity.ok(postService.getList(postSearch));
+        }
+
+        if (PostETag.matchesNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(postService.getList(postSearch));
+    }
+
+    /**
+     * 글 여러 건 조회
+     * - GET /posts?ids=3,1,2
+     * - 요청한 ID 순서대로 응답하고, 없는 글은 missingIds로 응답
+     * @param ids
+     * @return PostBulkResponse
+     */
+    @GetMapping(value = "/posts", params = "ids")
+    public PostBulkResponse getAll(@RequestParam List<Long> ids) {
+        return postService.getAll(ids);
+    }
+
+    /**
+     * 글 여러 건 조회 (ID가 많은 경우)
+     * @param request
+     * @return PostBulkResponse
+     */
+    @PostMapping("/posts/lookup")
+    public PostBulkResponse lookup(@RequestBody @Valid PostLookup request) {
+        return postService.getAll(request.getIds());
+    }
+
+    /**
+     * 글 목록 조회(커서 페이징)
+     * - 첫 페이지는 cursor를 빈 값으로, 이후에는 응답의 nextCursor를 그대로 전달
+     * @param postSearch
+     * @return PostCursorResponse
+     */
+    @GetMapping(value = "/posts", params = "cursor")
+    public PostCursorResponse getListByCursor(@ModelAttribute PostSearch postSearch) {
+        return postService.getListByCursor(postSearch);
+    }
+
+    /**
+     * 글 제목 자동완성
+     * - 검색창에서 입력할 때마다 호출되므로 DB를 조회하지 않음
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 개수
+     * @return List<PostSuggestResponse>
+     */
+    @GetMapping("/posts/suggest")
+    public List<PostSuggestResponse> suggest(@RequestParam String prefix,
+                                             @RequestParam(defaultValue = "10") int size) {
+        return postService.suggest(prefix, size);
+    }
+
+    /**
+     * 인기 글 조회
+     * - 최근 조회/수정이 많은 글 순 (오래된 활동일수록 점수가 줄어듦)
+     * - 메인 화면에서 호출되므로 DB를 조회하지 않음
+     * @param size 최대 개수
+     * @return List<PostTrendingResponse>
+     */
+    @GetMapping("/posts/trending")
+    public List<PostTrendingResponse> getTrending(@RequestParam(defaultValue = "10") int size) {
+        return postService.getTrending(size);
+    }
+
+    /**
+     * 글 요약 목록 조회(페이징)
+     * - 목록 화면용으로 content 대신 excerpt를 응답
+     * @param postSearch
+     * @return List<PostSummaryResponse>
+     */
+    @GetMapping("/posts/summaries")
+    public List<PostSummaryResponse> getSummaryList(@ModelAttribute PostSearch postSearch) {
+        return postService.getSummaryList(postSearch);
+    }
+
+    /**
+     * 전체 글 내보내기 (NDJSON)
+     * - 백업, 검색 색인 재생성 용도
+     * - 글 하나당 한 줄의 JSON으로 읽는 대로 바로 응답에 씀
+     * @return 한 줄에 글 하나씩 담긴 NDJSON 스트림
+     */
+    @GetMapping(value = "/posts/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            postService.export(post -> writeLine(outputStream, post));
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * 글 수정
+     * - If-Match가 있으면 현재 ETag와 다를 때 412 응답
      * @param postId
      * @param request
+     * @param ifMatch
      */
     @PatchMapping("/posts/{postId}")
-    public void edit(@PathVariable Long postId, @RequestBody @Valid PostEdit request) {
-        postService.edit(postId, request);
+    public void edit(@PathVariable Long postId, @RequestBody @Valid PostEdit request,
+                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        request.validate(forbiddenWordDictionary.current());
+        postService.edit(postId, request, ifMatch);
     }
 
     /**
@@ -121,4 +310,23 @@ public class PostController {
     public void delete(@PathVariable Long postId) {
         postService.delete(postId);
     }
+
+    /**
+     * 글 일괄 삭제
+     * - DELETE /posts?ids=1,2,3
+     * @param ids
+     */
+    @DeleteMapping(value = "/posts", params = "ids")
+    public void deleteAll(@RequestParam List<Long> ids) {
+        postService.deleteAll(ids);
+    }
+
+    private void writeLine(OutputStream outputStream, PostResponse post) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(post));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -6,40 +6,124 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 public class Post {
 
+    // 목록 조회용 요약 길이
+    public static final int EXCERPT_LENGTH = 100;
+
+    // 본문(PostContent)의 ID를 그대로 사용 (시퀀스는 PostContent에서 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String title;
 
-    @Lob
-    private String content;
+    // 본문은 post_content 테이블에 따로 저장하고 getContent() 호출 시점에 조회 (LAZY)
+    // - @MapsId: 글 ID = 본문 ID, 글 삭제 시 같은 ID로 본문도 삭제
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, optional = false)
+    @JoinColumn(name = "id")
+    private PostContent postContent;
+
+    // 본문 SHA-256, 수정 시 본문을 읽지 않고도 변경 여부를 알기 위해 사용
+    // 본문만 바뀌어도 이 값이 바뀌므로 글의 version이 올라감
+    @Column(length = 64)
+    private String contentHash;
+
+    // 목록 조회 시 content(LOB)를 읽지 않도록 작성 시점에 저장해두는 요약
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    // 수정될 때마다 Hibernate가 1씩 올림 -> ETag, 낙관적 락에 사용
+    @Version
+    private Long version;
+
+    // 조회수, PostViewCounter가 모아둔 증가분을 update 쿼리로 더함
+    // - updatable = false: 글 수정 시 엔티티에 있던 이전 조회수로 덮어쓰지 않음 (version도 올리지 않음)
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
 
     @Builder
     public Post(String title, String content) {
         this.title = title;
-        this.content = content;
+        this.postContent = new PostContent(content);
+        this.contentHash = hashOf(content);
+        this.excerpt = excerptOf(content);
     }
 
+    /**
+     * 본문 조회 (본문을 아직 읽지 않았다면 이 시점에 조회)
+     */
+    public String getContent() {
+        return postContent == null ? null : postContent.getBody();
+    }
+
+    /**
+     * 본문은 채우지 않음 -> content를 지정하지 않으면 본문을 읽지도 바꾸지도 않음
+     */
     public PostEditor.PostEditorBuilder toEditor() {
         return PostEditor.builder()
-                .title(title)
-                .content(content);
+                .title(title);
     }
 
     public void edit(PostEditor postEditor) {
         title = postEditor.getTitle();
-        content = postEditor.getContent();
+        changeContent(postEditor.getContent());
     }
 
     public void edit(String title, String content) {
         this.title = title;
-        this.content = content;
+        changeContent(content);
+    }
+
+    // 본문이 없거나(null) 기존과 같으면 post_content는 읽지도 쓰지도 않음
+    private void changeContent(String content) {
+        if (content == null) {
+            return;
+        }
+
+        String hash = hashOf(content);
+        if (hash.equals(contentHash)) {
+            return;
+        }
+
+        postContent.change(content);
+        contentHash = hash;
+        excerpt = excerptOf(content);
+    }
+
+    private static String hashOf(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                        .append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 한 글자 앞에서 자름
+        int end = Character.isHighSurrogate(content.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return content.substring(0, end);
     }
 }
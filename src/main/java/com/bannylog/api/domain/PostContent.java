@@ -0,0 +1,36 @@
+package com.bannylog.api.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 글 본문
+ * - 크기가 큰 본문(LOB)을 글과 다른 테이블에 두고 필요할 때만 조회
+ * - 글 ID와 같은 ID를 사용 (글의 ID가 본문 ID에서 파생됨, Post.postContent 참고)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+public class PostContent {
+
+    // IDENTITY 전략은 insert 시점에 id를 알 수 있어 JDBC batch insert가 동작하지 않음
+    // -> 시퀀스에서 50개씩 미리 할당받아(pooled) 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq_generator")
+    @SequenceGenerator(name = "post_seq_generator", sequenceName = "post_seq", allocationSize = 50)
+    private Long id;
+
+    @Lob
+    private String body;
+
+    public PostContent(String body) {
+        this.body = body;
+    }
+
+    void change(String body) {
+        this.body = body;
+    }
+}
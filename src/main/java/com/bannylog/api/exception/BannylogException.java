@@ -18,6 +18,14 @@ public abstract class BannylogException extends RuntimeException {
         super(message, cause);
     }
 
+    /**
+     * 스택 트레이스를 만들지 않는 예외
+     * - 없는 글 조회, 잘못된 요청처럼 자주 발생하고 응답 코드로만 처리되는 예외에 사용
+     */
+    protected BannylogException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
     public abstract int getStatusCode();
 
     public void addValidation(String fieldName, String message) {
@@ -14,11 +14,11 @@ public class InvalidRequest extends BannylogException {
 //    public String message;
 
     public InvalidRequest() {
-        super(MESSAGE);
+        super(MESSAGE, false);
     }
 
     public InvalidRequest(String fieldName, String message) {
-        super(MESSAGE);
+        super(MESSAGE, false);
         addValidation(fieldName, message);
 //        this.fieldName = fieldName;
 //        this.message = message;
@@ -8,7 +8,7 @@ public class PostNotFound extends BannylogException {
     private static final String MESSAGE = "존재하지 않는 글입니다.";
 
     public PostNotFound() {
-        super(MESSAGE);
+        super(MESSAGE, false);
     }
 
     @Override
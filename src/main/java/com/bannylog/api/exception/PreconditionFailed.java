@@ -0,0 +1,18 @@
+package com.bannylog.api.exception;
+
+/**
+ * ststus -> 412
+ */
+public class PreconditionFailed extends BannylogException {
+
+    private static final String MESSAGE = "글이 변경되었습니다. 다시 조회한 후 수정해주세요.";
+
+    public PreconditionFailed() {
+        super(MESSAGE, false);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 412;
+    }
+}
@@ -0,0 +1,134 @@
+package com.bannylog.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 메모리 응답 시간 히스토그램 (마이크로초 단위)
+ * - 2의 거듭제곱 구간마다 8개의 균등한 하위 구간으로 나눔 (log-linear, 상대 오차 12.5% 이하)
+ * - 최대 약 12일(2^40us)까지 312개 버킷, 이를 넘는 값은 마지막 버킷에 기록
+ * - record는 객체를 생성하지 않음
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(0, nanos / 1000), MAX_VALUE);
+
+        counts.incrementAndGet(indexOf(micros));
+        count.increment();
+        sum.add(micros);
+
+        long current = max.get();
+        while (micros > current && !max.compareAndSet(current, micros)) {
+            current = max.get();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] copied = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copied[i] = counts.get(i);
+            total += copied[i];
+        }
+        return new Snapshot(copied, total, sum.sum(), max.get());
+    }
+
+    /**
+     * 현재 구간 초기화
+     * - 기록 중인 값과 겹치면 일부 값은 다음 구간으로 넘어갈 수 있음
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // 버킷에 속하는 가장 큰 값
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+    public static class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0 : (double) sum / count / 1000.0;
+        }
+
+        public double getMaxMillis() {
+            return max / 1000.0;
+        }
+
+        /**
+         * @param percentile 0 ~ 100
+         * @return 해당 백분위 값(ms), 버킷 상한 기준이라 실제 값보다 최대 12.5% 클 수 있음
+         */
+        public double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i), max) / 1000.0;
+                }
+            }
+            return getMaxMillis();
+        }
+    }
+}
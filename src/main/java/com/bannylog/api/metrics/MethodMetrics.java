@@ -0,0 +1,38 @@
+package com.bannylog.api.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메서드 하나의 호출 시간과 실패 횟수
+ */
+@Getter
+public class MethodMetrics {
+
+    private final String name;
+    private final boolean controller;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    public MethodMetrics(String name, boolean controller) {
+        this.name = name;
+        this.controller = controller;
+    }
+
+    public void record(long nanos, boolean failed) {
+        histogram.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public MethodStats stats() {
+        return new MethodStats(histogram.snapshot(), errors.sum());
+    }
+
+    public void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+}
@@ -0,0 +1,30 @@
+package com.bannylog.api.metrics;
+
+import lombok.Getter;
+
+/**
+ * 메서드별 응답 시간 백분위 (ms)
+ */
+@Getter
+public class MethodStats {
+
+    private final long count;
+    private final long errors;
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double p999;
+    private final double max;
+
+    public MethodStats(LatencyHistogram.Snapshot snapshot, long errors) {
+        this.count = snapshot.getCount();
+        this.errors = errors;
+        this.mean = snapshot.getMeanMillis();
+        this.p50 = snapshot.percentileMillis(50);
+        this.p90 = snapshot.percentileMillis(90);
+        this.p99 = snapshot.percentileMillis(99);
+        this.p999 = snapshot.percentileMillis(99.9);
+        this.max = snapshot.getMaxMillis();
+    }
+}
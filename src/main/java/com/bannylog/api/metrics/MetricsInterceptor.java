@@ -0,0 +1,38 @@
+package com.bannylog.api.metrics;
+
+import com.bannylog.api.exception.BannylogException;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 컨트롤러, 서비스 메서드 호출 시간 기록
+ * - 요청 수와 예외 상태 코드는 컨트롤러에서만 집계해 서비스 예외가 두 번 세지지 않도록 함
+ */
+@RequiredArgsConstructor
+public class MetricsInterceptor implements MethodInterceptor {
+
+    private final MetricsRegistry registry;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMetrics metrics = registry.forMethod(invocation.getMethod());
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } catch (BannylogException e) {
+            if (metrics.isController()) {
+                registry.recordStatusCode(e.getStatusCode());
+            }
+            throw e;
+        } finally {
+            metrics.record(System.nanoTime() - start, failed);
+            if (metrics.isController()) {
+                registry.recordRequest(failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bannylog.api.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 메서드별 지표 저장소
+ * - 메서드마다 처음 호출될 때 한 번만 MethodMetrics를 만들고 이후에는 조회만 함
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final int MAX_STATUS_CODE = 600;
+
+    private final Map<Method, MethodMetrics> methods = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLongArray statusCodes = new AtomicLongArray(MAX_STATUS_CODE);
+    private volatile Instant windowStartedAt = Instant.now();
+
+    public MethodMetrics forMethod(Method method) {
+        MethodMetrics metrics = methods.get(method);
+        if (metrics != null) {
+            return metrics;
+        }
+        return methods.computeIfAbsent(method, MetricsRegistry::create);
+    }
+
+    public void recordRequest(boolean failed) {
+        requests.increment();
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    public void recordStatusCode(int statusCode) {
+        if (statusCode >= 0 && statusCode < MAX_STATUS_CODE) {
+            statusCodes.incrementAndGet(statusCode);
+        }
+    }
+
+    /**
+     * @param reset true면 조회 후 새 집계 구간 시작
+     */
+    public MetricsSnapshot snapshot(boolean reset) {
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        for (int i = 0; i < MAX_STATUS_CODE; i++) {
+            long count = statusCodes.get(i);
+            if (count > 0) {
+                statusCounts.put(i, count);
+            }
+        }
+
+        Map<String, MethodStats> methodStats = methods.values().stream()
+                .filter(metrics -> metrics.getHistogram().getCount() > 0)
+                .collect(Collectors.toMap(MethodMetrics::getName, MethodMetrics::stats, (a, b) -> a, TreeMap::new));
+
+        MetricsSnapshot snapshot = new MetricsSnapshot(windowStartedAt, requests.sum(), errors.sum(),
+                statusCounts, methodStats);
+
+        if (reset) {
+            reset();
+        }
+        return snapshot;
+    }
+
+    public void reset() {
+        methods.values().forEach(MethodMetrics::reset);
+        requests.reset();
+        errors.reset();
+        for (int i = 0; i < MAX_STATUS_CODE; i++) {
+            statusCodes.set(i, 0);
+        }
+        windowStartedAt = Instant.now();
+    }
+
+    private static MethodMetrics create(Method method) {
+        Class<?> type = method.getDeclaringClass();
+        boolean controller = type.isAnnotationPresent(RestController.class);
+        return new MethodMetrics(nameOf(type, method), controller);
+    }
+
+    // 오버로딩된 메서드만 파라미터 타입을 붙여 구분
+    private static String nameOf(Class<?> type, Method method) {
+        String name = type.getSimpleName() + "." + method.getName();
+        long overloads = Arrays.stream(type.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(method.getName()))
+                .count();
+        if (overloads <= 1) {
+            return name;
+        }
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", name + "(", ")"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.bannylog.api.metrics;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 집계 구간(windowStartedAt ~ 조회 시점) 동안의 요청 지표
+ * - requests / errors: 컨트롤러 호출 수 / 예외로 끝난 호출 수
+ * - statusCodes: BannylogException 상태 코드별 횟수
+ * - methods: 컨트롤러, 서비스 메서드별 응답 시간
+ */
+@Getter
+public class MetricsSnapshot {
+
+    private final Instant windowStartedAt;
+    private final long requests;
+    private final long errors;
+    private final Map<Integer, Long> statusCodes;
+    private final Map<String, MethodStats> methods;
+
+    public MetricsSnapshot(Instant windowStartedAt, long requests, long errors,
+                           Map<Integer, Long> statusCodes, Map<String, MethodStats> methods) {
+        this.windowStartedAt = windowStartedAt;
+        this.requests = requests;
+        this.errors = errors;
+        this.statusCodes = statusCodes;
+        this.methods = methods;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bannylog.api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 JDBC 문장을 준비할 때마다 호출됨
+ * - batch insert는 묶음 하나를 한 번으로 셈
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bannylog.api.metrics;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 SQL 개수 집계 시작 / 종료
+ * - 응답 body가 있으면 QueryCountResponseAdvice에서, 없으면 postHandle에서 헤더 기록
+ */
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.start();
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        long count = QueryCounter.count();
+        if (count >= 0 && !response.isCommitted() && !response.containsHeader(HEADER)) {
+            response.setHeader(HEADER, String.valueOf(count));
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        QueryCounter.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package com.bannylog.api.metrics;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 body를 쓰기 직전에 SQL 개수 헤더 기록 (body를 쓰고 나면 헤더를 바꿀 수 없음)
+ */
+@Profile("!prod")
+@ControllerAdvice
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        long count = QueryCounter.count();
+        if (count >= 0) {
+            response.getHeaders().set(QueryCountInterceptor.HEADER, String.valueOf(count));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,36 @@
+package com.bannylog.api.metrics;
+
+/**
+ * 요청 하나에서 실행된 SQL 문 개수
+ * - start ~ clear 사이에 같은 스레드에서 실행된 문장만 셈
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    public static void increment() {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    /**
+     * @return 실행된 SQL 개수, 집계 중이 아니면 -1
+     */
+    public static long count() {
+        long[] count = COUNT.get();
+        return count == null ? -1 : count[0];
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+}
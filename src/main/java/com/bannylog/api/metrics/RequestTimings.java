@@ -0,0 +1,108 @@
+package com.bannylog.api.metrics;
+
+/**
+ * 요청 하나의 구간별 실행 시간 (스레드별로 재사용)
+ * - 구간이 중첩되면 바깥 구간은 멈추고 안쪽 구간만 흐르므로 각 구간은 자기 자신의 시간만 가짐
+ *   ex) controller 10ms 중 service 8ms, 그 중 db 6ms -> controller 2ms, service 2ms, db 6ms
+ * - start ~ clear 밖에서 호출된 enter / exit 는 무시
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+    private static final int MAX_DEPTH = 64;
+
+    private final long[] elapsed = new long[PHASES.length];
+    private final TimingPhase[] stack = new TimingPhase[MAX_DEPTH];
+    private int depth;
+    private long mark;
+    private long startedAt;
+    private boolean active;
+
+    private RequestTimings() {
+    }
+
+    public static void start() {
+        RequestTimings timings = CURRENT.get();
+        for (int i = 0; i < timings.elapsed.length; i++) {
+            timings.elapsed[i] = 0;
+        }
+        timings.depth = 0;
+        timings.startedAt = System.nanoTime();
+        timings.active = true;
+    }
+
+    public static void enter(TimingPhase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (!timings.active) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (timings.depth > 0 && timings.depth <= MAX_DEPTH) {
+            timings.elapsed[timings.stack[timings.depth - 1].ordinal()] += now - timings.mark;
+        }
+        if (timings.depth < MAX_DEPTH) {
+            timings.stack[timings.depth] = phase;
+        }
+        timings.depth++;
+        timings.mark = now;
+    }
+
+    public static void exit() {
+        RequestTimings timings = CURRENT.get();
+        if (!timings.active || timings.depth == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        timings.depth--;
+        if (timings.depth < MAX_DEPTH) {
+            timings.elapsed[timings.stack[timings.depth].ordinal()] += now - timings.mark;
+        }
+        timings.mark = now;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get().active;
+    }
+
+    /**
+     * 진행 중인 구간은 지금까지 흐른 시간을 포함
+     * @return ex) controller;dur=0.412, service;dur=0.230, db;dur=3.101, serialization;dur=1.020, total;dur=5.210
+     */
+    public static String toHeaderValue() {
+        RequestTimings timings = CURRENT.get();
+        long now = System.nanoTime();
+        TimingPhase running = timings.depth > 0 && timings.depth <= MAX_DEPTH ? timings.stack[timings.depth - 1] : null;
+
+        StringBuilder header = new StringBuilder(128);
+        for (TimingPhase phase : PHASES) {
+            long nanos = timings.elapsed[phase.ordinal()];
+            if (phase == running) {
+                nanos += now - timings.mark;
+            }
+            appendMetric(header, phase.getMetricName(), nanos);
+            header.append(", ");
+        }
+        appendMetric(header, "total", now - timings.startedAt);
+        return header.toString();
+    }
+
+    public static void clear() {
+        CURRENT.get().active = false;
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        long micros = nanos / 1000;
+        header.append(name).append(";dur=").append(micros / 1000).append('.');
+        long fraction = micros % 1000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
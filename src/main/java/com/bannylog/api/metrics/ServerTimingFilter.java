@@ -0,0 +1,56 @@
+package com.bannylog.api.metrics;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * postHandle 전에 커밋되는 응답(304, body 없는 ResponseEntity 등)에도 Server-Timing 헤더 기록
+ * - 응답을 감싸서 커밋(flushBuffer)하거나 body를 열기 직전에 헤더가 없으면 기록
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new ServerTimingResponse(response));
+    }
+
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private ServerTimingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        private void writeHeader() {
+            if (RequestTimings.isActive() && !isCommitted() && !containsHeader(ServerTimingInterceptor.HEADER)) {
+                setHeader(ServerTimingInterceptor.HEADER, RequestTimings.toHeaderValue());
+            }
+        }
+    }
+}
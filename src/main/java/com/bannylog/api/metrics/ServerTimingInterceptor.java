@@ -0,0 +1,37 @@
+package com.bannylog.api.metrics;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 구간별 시간 측정 시작 / 종료
+ * - 응답 body가 있으면 TimingJackson2HttpMessageConverter에서, 없으면 postHandle에서 헤더 기록
+ * - postHandle 전에 커밋되는 응답(304, body 없는 ResponseEntity 등)은 ServerTimingFilter에서 헤더 기록
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Server-Timing";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings.start();
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (RequestTimings.isActive() && !response.isCommitted() && !response.containsHeader(HEADER)) {
+            response.setHeader(HEADER, RequestTimings.toHeaderValue());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestTimings.clear();
+    }
+}
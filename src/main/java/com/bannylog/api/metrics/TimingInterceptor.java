@@ -0,0 +1,24 @@
+package com.bannylog.api.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 컨트롤러, 서비스, 리포지토리 메서드 실행 시간을 해당 구간에 더함
+ */
+@RequiredArgsConstructor
+public class TimingInterceptor implements MethodInterceptor {
+
+    private final TimingPhase phase;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestTimings.enter(phase);
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTimings.exit();
+        }
+    }
+}
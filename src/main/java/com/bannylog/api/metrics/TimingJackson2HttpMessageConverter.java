@@ -0,0 +1,126 @@
+package com.bannylog.api.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 직렬화 시간을 Server-Timing 헤더에 포함
+ * - 헤더는 body보다 먼저 나가야 하므로 직렬화 결과를 버퍼에 담아 직렬화가 끝난 뒤 헤더와 함께 내보냄
+ * - 버퍼는 BUFFER_LIMIT까지만 사용 (큰 응답이 메모리를 두 배로 쓰거나 첫 바이트가 늦어지지 않도록)
+ *   -> 넘으면 그때까지의 시간으로 헤더를 기록하고 나머지는 응답 스트림에 바로 씀, 직렬화 전체 시간은 로그로 남김
+ */
+@Slf4j
+public class TimingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    static final int BUFFER_LIMIT = 64 * 1024;
+
+    public TimingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!RequestTimings.isActive()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        TimingOutputMessage timingMessage = new TimingOutputMessage(outputMessage);
+        long startedAt = System.nanoTime();
+        RequestTimings.enter(TimingPhase.SERIALIZATION);
+        try {
+            super.writeInternal(object, type, timingMessage);
+        } finally {
+            RequestTimings.exit();
+        }
+
+        TimingOutputStream body = timingMessage.body;
+        if (body.target == null) {
+            body.writeHeader();
+            body.buffer.writeTo(outputMessage.getBody());
+        } else {
+            log.info("응답이 커서 Server-Timing에는 직렬화 시간 일부만 포함: serialization={}ms, bytes={}",
+                    (System.nanoTime() - startedAt) / 1_000_000, body.written);
+        }
+    }
+
+    private static class TimingOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+        private final TimingOutputStream body;
+
+        private TimingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+            this.body = new TimingOutputStream(delegate);
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    /**
+     * BUFFER_LIMIT까지는 버퍼에 쓰고, 넘으면 Server-Timing 헤더를 기록한 뒤 실제 응답 스트림을 연다
+     * (getBody() 이후에는 헤더를 바꿀 수 없음)
+     */
+    private static class TimingOutputStream extends OutputStream {
+
+        private final HttpOutputMessage delegate;
+        private final FastByteArrayOutputStream buffer = new FastByteArrayOutputStream();
+        private OutputStream target;
+        private long written;
+
+        private TimingOutputStream(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        private void writeHeader() {
+            delegate.getHeaders().set(ServerTimingInterceptor.HEADER, RequestTimings.toHeaderValue());
+        }
+
+        private OutputStream target(int len) throws IOException {
+            written += len;
+            if (target == null && buffer.size() + len > BUFFER_LIMIT) {
+                writeHeader();
+                target = delegate.getBody();
+                buffer.writeTo(target);
+                buffer.reset();
+            }
+            return target != null ? target : buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target(len).write(b, off, len);
+        }
+
+        // 버퍼에 쓰는 동안에는 내보내지 않음 (Jackson은 직렬화가 끝나면 flush)
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+    }
+}
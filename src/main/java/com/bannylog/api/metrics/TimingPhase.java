@@ -0,0 +1,22 @@
+package com.bannylog.api.metrics;
+
+/**
+ * Server-Timing 헤더에 표시되는 구간
+ */
+public enum TimingPhase {
+
+    CONTROLLER("controller"),
+    SERVICE("service"),
+    REPOSITORY("db"),
+    SERIALIZATION("serialization");
+
+    private final String metricName;
+
+    TimingPhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
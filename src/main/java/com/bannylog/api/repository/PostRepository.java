@@ -1,8 +1,12 @@
 package com.bannylog.api.repository;
 
 import com.bannylog.api.domain.Post;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 인터페이스 다중 상속
  * 자바 클래스는 하나의 부모 클래스를 상속할 수 있지만,
@@ -11,4 +15,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * 인터페이스는 메서드를 선언만 하기 때문에 충돌의 여지가 없어서 다중 상속이 가능
  */
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    // 기본 조회는 본문까지 함께 조회(fetch join) -> 트랜잭션 밖에서도 getContent() 사용 가능
+    // 본문이 필요 없으면 findWithoutContentById 사용
+    @Override
+    @EntityGraph(attributePaths = "postContent")
+    Optional<Post> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "postContent")
+    List<Post> findAll();
 }
@@ -1,11 +1,45 @@
 package com.bannylog.api.repository;
 
 import com.bannylog.api.domain.Post;
+import com.bannylog.api.request.PostField;
 import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.response.PostResponse;
+import com.bannylog.api.response.PostSuggestResponse;
+import com.bannylog.api.response.PostSummaryResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface PostRepositoryCustom {
 
+    Optional<Post> findWithoutContentById(Long id);
+
+    Optional<Long> findVersionById(Long id);
+
+    Optional<Long> findViewCountById(Long id);
+
     List<Post> getList(PostSearch postSearch);
+
+    List<PostResponse> getFieldList(PostSearch postSearch, Set<PostField> fields);
+
+    Optional<PostResponse> findFieldsById(Long id, Set<PostField> fields);
+
+    List<Post> getListByCursor(PostSearch postSearch);
+
+    List<Post> getListByIds(Collection<Long> ids);
+
+    List<PostSummaryResponse> getSummaryList(PostSearch postSearch);
+
+    Stream<Post> streamAll();
+
+    Stream<Long> streamAllIds();
+
+    Stream<PostSuggestResponse> streamAllTitles();
+
+    long deletePost(Long id);
+
+    long deletePosts(Collection<Long> ids);
 }
@@ -2,24 +2,281 @@ package com.bannylog.api.repository;
 
 import com.bannylog.api.domain.Post;
 import com.bannylog.api.domain.QPost;
+import com.bannylog.api.domain.QPostContent;
+import com.bannylog.api.request.PostField;
 import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.response.PostResponse;
+import com.bannylog.api.response.PostSuggestResponse;
+import com.bannylog.api.response.PostSummaryResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JPAQueryFactory jpaQueryFactory;
 
+    private final EntityManager entityManager;
+
+    /**
+     * 본문 없이 글만 조회 (수정용)
+     * - 본문은 실제로 바꿀 때만 조회된다.
+     */
+    @Override
+    public Optional<Post> findWithoutContentById(Long id) {
+        return Optional.ofNullable(jpaQueryFactory.selectFrom(QPost.post)
+                .where(QPost.post.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 글 버전만 조회 (ETag 비교용)
+     * - content(LOB) 컬럼은 읽지 않는다.
+     */
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return Optional.ofNullable(jpaQueryFactory.select(QPost.post.version)
+                .from(QPost.post)
+                .where(QPost.post.id.eq(id))
+                .fetchOne());
+    }
+
+    /**
+     * 글 조회수만 조회 (PostViewCounter 기준값을 다시 읽는 용도)
+     */
+    @Override
+    public Optional<Long> findViewCountById(Long id) {
+        return Optional.ofNullable(jpaQueryFactory.select(QPost.post.viewCount)
+                .from(QPost.post)
+                .where(QPost.post.id.eq(id))
+                .fetchOne());
+    }
+
     // 상위 클래스의 메서드 재정의
     @Override
     public List<Post> getList(PostSearch postSearch) {
         return jpaQueryFactory.selectFrom(QPost.post)
-                .limit(postSearch.getSize())
+                .join(QPost.post.postContent).fetchJoin()
+                .limit(postSearch.getLimit())
+                .offset(postSearch.getOffset())
+                .orderBy(QPost.post.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 선택한 필드만 조회하는 목록 조회
+     * - content를 선택하지 않으면 content(LOB) 컬럼을 select 하지 않는다.
+     */
+    @Override
+    public List<PostResponse> getFieldList(PostSearch postSearch, Set<PostField> fields) {
+        QPost post = QPost.post;
+
+        return jpaQueryFactory.select(columnsOf(fields))
+                .from(post)
+                .limit(postSearch.getLimit())
                 .offset(postSearch.getOffset())
+                .orderBy(post.id.desc())
+                .fetch()
+                .stream()
+                .map(tuple -> new PostResponse(tuple.get(post.id), tuple.get(post.title), tuple.get(post.postContent.body)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 선택한 필드만 조회하는 단건 조회
+     * - ETag를 위해 version은 항상 조회
+     */
+    @Override
+    public Optional<PostResponse> findFieldsById(Long id, Set<PostField> fields) {
+        QPost post = QPost.post;
+
+        List<Expression<?>> columns = new ArrayList<>(List.of(columnsOf(fields)));
+        columns.add(post.version);
+
+        Tuple tuple = jpaQueryFactory.select(columns.toArray(new Expression<?>[0]))
+                .from(post)
+                .where(post.id.eq(id))
+                .fetchOne();
+
+        if (tuple == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(PostResponse.builder()
+                .id(tuple.get(post.id))
+                .title(tuple.get(post.title))
+                .content(tuple.get(post.postContent.body))
+                .version(tuple.get(post.version))
+                .build());
+    }
+
+    /**
+     * 커서(keyset) 페이징
+     * - offset 대신 id < lastSeenId 조건으로 PK 인덱스에서 바로 시작 위치를 찾기 때문에
+     *   뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회된다.
+     * - 다음 페이지가 있는지 알 수 있도록 limit + 1건까지 조회 (초과분은 호출하는 쪽에서 잘라냄)
+     */
+    @Override
+    public List<Post> getListByCursor(PostSearch postSearch) {
+        return jpaQueryFactory.selectFrom(QPost.post)
+                .join(QPost.post.postContent).fetchJoin()
+                .where(idLessThan(postSearch.getLastSeenId()))
+                .limit(postSearch.getLimit() + 1)
                 .orderBy(QPost.post.id.desc())
                 .fetch();
     }
+
+    /**
+     * ID 목록으로 조회
+     * - where id in (...) 한 번으로 조회, 순서는 보장하지 않음
+     */
+    @Override
+    public List<Post> getListByIds(Collection<Long> ids) {
+        return jpaQueryFactory.selectFrom(QPost.post)
+                .join(QPost.post.postContent).fetchJoin()
+                .where(QPost.post.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * 요약 목록 조회
+     * - 필요한 컬럼만 select 하므로 content(LOB) 컬럼은 읽지 않는다.
+     */
+    @Override
+    public List<PostSummaryResponse> getSummaryList(PostSearch postSearch) {
+        QPost post = QPost.post;
+
+        return jpaQueryFactory.select(Projections.constructor(PostSummaryResponse.class,
+                        post.id,
+                        post.title,
+                        post.excerpt))
+                .from(post)
+                .limit(postSearch.getLimit())
+                .offset(postSearch.getOffset())
+                .orderBy(post.id.desc())
+                .fetch();
+    }
+
+    /**
+     * 전체 글 스트림 조회 (내보내기용)
+     * - forward-only 커서로 fetch size만큼씩 읽어오고,
+     *   읽은 엔티티는 바로 영속성 컨텍스트에서 분리(detach)해서 글 개수와 상관없이 메모리 사용량을 일정하게 유지
+     * - 트랜잭션 안에서 호출하고, 사용 후에는 반드시 close 해야 함
+     */
+    @Override
+    public Stream<Post> streamAll() {
+        return jpaQueryFactory.selectFrom(QPost.post)
+                .join(QPost.post.postContent).fetchJoin()
+                .orderBy(QPost.post.id.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .stream()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * 전체 글 ID 스트림 조회 (글 ID 필터 재구성용)
+     * - id 컬럼만 읽으므로 엔티티를 만들지 않음
+     * - 트랜잭션 안에서 호출하고, 사용 후에는 반드시 close 해야 함
+     */
+    @Override
+    public Stream<Long> streamAllIds() {
+        return jpaQueryFactory.select(QPost.post.id)
+                .from(QPost.post)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    /**
+     * 전체 글 ID, 제목 스트림 조회 (제목 자동완성 재구성용)
+     * - content(LOB) 컬럼은 읽지 않음
+     * - 트랜잭션 안에서 호출하고, 사용 후에는 반드시 close 해야 함
+     */
+    @Override
+    public Stream<PostSuggestResponse> streamAllTitles() {
+        QPost post = QPost.post;
+
+        return jpaQueryFactory.select(Projections.constructor(PostSuggestResponse.class,
+                        post.id,
+                        post.title))
+                .from(post)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    /**
+     * 글 삭제
+     * - 엔티티를 조회하지 않고 글, 본문 delete 쿼리로 삭제 (본문은 글과 같은 ID)
+     * @return 삭제된 글 개수 (0이면 존재하지 않는 글)
+     */
+    @Override
+    public long deletePost(Long id) {
+        long deleted = jpaQueryFactory.delete(QPost.post)
+                .where(QPost.post.id.eq(id))
+                .execute();
+
+        if (deleted > 0) {
+            jpaQueryFactory.delete(QPostContent.postContent)
+                    .where(QPostContent.postContent.id.eq(id))
+                    .execute();
+        }
+        return deleted;
+    }
+
+    /**
+     * 글 일괄 삭제
+     * - 글, 본문 각각 where id in (...) 한 번으로 삭제
+     * @return 삭제된 글 개수
+     */
+    @Override
+    public long deletePosts(Collection<Long> ids) {
+        long deleted = jpaQueryFactory.delete(QPost.post)
+                .where(QPost.post.id.in(ids))
+                .execute();
+
+        if (deleted > 0) {
+            jpaQueryFactory.delete(QPostContent.postContent)
+                    .where(QPostContent.postContent.id.in(ids))
+                    .execute();
+        }
+        return deleted;
+    }
+
+    private Expression<?>[] columnsOf(Set<PostField> fields) {
+        QPost post = QPost.post;
+
+        return fields.stream()
+                .<Expression<?>>map(field -> {
+                    switch (field) {
+                        case ID:
+                            return post.id;
+                        case TITLE:
+                            return post.title;
+                        default:
+                            return post.postContent.body;
+                    }
+                })
+                .toArray(Expression<?>[]::new);
+    }
+
+    // where 절에 null이 전달되면 조건이 무시됨 -> 첫 페이지
+    private BooleanExpression idLessThan(Long lastSeenId) {
+        return lastSeenId == null ? null : QPost.post.id.lt(lastSeenId);
+    }
 }
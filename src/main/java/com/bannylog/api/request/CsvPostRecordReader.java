@@ -0,0 +1,139 @@
+package com.bannylog.api.request;
+
+import com.bannylog.api.exception.InvalidRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * CSV(RFC 4180) 형식 reader
+ * - 첫 행은 헤더이고 title, content 컬럼이 있어야 함 (순서 무관)
+ * - 쉼표, 줄바꿈이 들어간 값은 큰따옴표로 감싸고, 값 안의 큰따옴표는 "" 로 표기
+ *
+ * title,content
+ * 제목1,내용1
+ * "제목, 2","여러 줄
+ * 내용"
+ */
+public class CsvPostRecordReader implements PostRecordReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final int titleIndex;
+    private final int contentIndex;
+    private long recordNumber;
+
+    // hasNext()에서 미리 읽은 행
+    private List<String> record;
+
+    public CsvPostRecordReader(Reader reader) throws IOException {
+        this.reader = new BufferedReader(reader);
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new InvalidRequest("csv", "헤더가 없습니다.");
+        }
+
+        this.titleIndex = indexOf(header, "title");
+        this.contentIndex = indexOf(header, "content");
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        while (record == null) {
+            List<String> read = readRecord();
+            if (read == null) {
+                return false;
+            }
+            recordNumber++;
+            if (!(read.size() == 1 && read.get(0).isEmpty())) { // 빈 줄
+                record = read;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public PostCreate next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> record = this.record;
+        this.record = null;
+
+        return PostCreate.builder()
+                .title(valueAt(record, titleIndex))
+                .content(valueAt(record, contentIndex))
+                .build();
+    }
+
+    @Override
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * 한 행(record)을 읽음
+     * @return 더 이상 읽을 행이 없으면 null
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidRequest("csv", "닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        // 따옴표 종료, 읽은 문자는 다음 루프에서 처리
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+
+            c = reader.read();
+        }
+    }
+
+    private static int indexOf(List<String> header, String column) {
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace(String.valueOf(BOM), "").trim().toLowerCase(Locale.ROOT);
+            if (name.equals(column)) {
+                return i;
+            }
+        }
+        throw new InvalidRequest("csv", "헤더에 " + column + " 컬럼이 없습니다.");
+    }
+
+    private static String valueAt(List<String> record, int index) {
+        return index < record.size() ? record.get(index) : null;
+    }
+}
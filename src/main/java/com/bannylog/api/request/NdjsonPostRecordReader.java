@@ -0,0 +1,73 @@
+package com.bannylog.api.request;
+
+import com.bannylog.api.exception.InvalidRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.NoSuchElementException;
+
+/**
+ * NDJSON 형식 reader
+ * {"title": "제목1", "content": "내용1"}
+ * {"title": "제목2", "content": "내용2"}
+ */
+public class NdjsonPostRecordReader implements PostRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long recordNumber;
+
+    // hasNext()에서 미리 읽은 행
+    private String line;
+
+    public NdjsonPostRecordReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(reader);
+        this.objectReader = objectMapper.readerFor(PostCreate.class);
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        while (line == null) {
+            String read = reader.readLine();
+            if (read == null) {
+                return false;
+            }
+            recordNumber++;
+            if (!read.isBlank()) {
+                line = read;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public PostCreate next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String current = line;
+        line = null;
+
+        PostCreate postCreate;
+        try {
+            postCreate = objectReader.readValue(current);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequest("json", "JSON 형식이 올바르지 않습니다.");
+        }
+
+        // null 리터럴 (객체가 아닌 나머지 값은 readValue에서 예외)
+        if (postCreate == null) {
+            throw new InvalidRequest("json", "JSON 객체가 아닙니다.");
+        }
+        return postCreate;
+    }
+
+    @Override
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+}
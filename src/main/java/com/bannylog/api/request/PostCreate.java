@@ -1,6 +1,6 @@
 package com.bannylog.api.request;
 
-import com.bannylog.api.exception.InvalidRequest;
+import com.bannylog.api.validation.ForbiddenWordMatcher;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -46,9 +46,11 @@ public class PostCreate {
 //                .build();
 //    }
 
-    public void validate() {
-        if (title.contains("바보")) {
-            throw new InvalidRequest("title", "제목에 바보를 포함할 수 없습니다.");
-        }
+    /**
+     * 제목, 내용 금지어 검사
+     * @param forbiddenWords ForbiddenWordDictionary.current()
+     */
+    public void validate(ForbiddenWordMatcher forbiddenWords) {
+        forbiddenWords.validate(title, content);
     }
 }
@@ -0,0 +1,59 @@
+package com.bannylog.api.request;
+
+import com.bannylog.api.exception.InvalidRequest;
+import com.bannylog.api.validation.ForbiddenWordMatcher;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 글 일괄 생성 요청
+ * {
+ *     "posts": [
+ *         { "title": "제목", "content": "내용" },
+ *         ...
+ *     ]
+ * }
+ */
+@ToString
+@Setter
+@Getter
+public class PostCreateBatch {
+
+    public static final int MAX_SIZE = 1000;
+
+    // @Valid -> 리스트 안의 PostCreate 각각에 대해서도 @NotBlank 검증
+    @Valid
+    @NotEmpty(message = "글을 1개 이상 입력해주세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 1000개까지 등록할 수 있습니다.")
+    private List<PostCreate> posts;
+
+    @Builder
+    public PostCreateBatch(List<PostCreate> posts) {
+        this.posts = posts;
+    }
+
+    /**
+     * 각 글에 PostCreate.validate() 적용
+     * - 어느 글이 잘못되었는지 알 수 있도록 필드명 앞에 posts[index]를 붙여서 응답
+     * @param forbiddenWords 모든 글을 같은 사전으로 검사하도록 한 번만 받아옴
+     */
+    public void validate(ForbiddenWordMatcher forbiddenWords) {
+        for (int i = 0; i < posts.size(); i++) {
+            try {
+                posts.get(i).validate(forbiddenWords);
+            } catch (InvalidRequest e) {
+                InvalidRequest indexed = new InvalidRequest();
+                String prefix = "posts[" + i + "].";
+                e.getValidation().forEach((fieldName, message) -> indexed.addValidation(prefix + fieldName, message));
+                throw indexed;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.bannylog.api.request;
+
+import com.bannylog.api.exception.InvalidRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 커서
+ * - 클라이언트는 커서 내용을 해석하지 않고 다음 요청에 그대로 전달한다.
+ * - 내부적으로는 마지막으로 조회한 글 ID를 Base64(URL-safe)로 인코딩한 값
+ */
+public final class PostCursor {
+
+    private PostCursor() {
+    }
+
+    public static String encode(Long lastSeenId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(lastSeenId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(cursor);
+            return Long.parseLong(new String(decoded, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException도 IllegalArgumentException의 하위 클래스
+            throw new InvalidRequest("cursor", "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bannylog.api.request;
+
+import java.util.Set;
+
+/**
+ * 글 ETag
+ * - 글 버전으로 만든 weak ETag ex) W/"3"
+ *   -> 응답의 조회수는 버전이 같아도 바뀌므로 바이트 단위로 같음을 보장하는 strong ETag는 쓰지 않음
+ *   -> 304를 받은 클라이언트의 조회수는 글이 바뀔 때까지 갱신되지 않음
+ * - If-None-Match는 weak 비교(W/ 무시)
+ * - If-Match는 글 버전 비교: 조회 응답의 W/"3"과 "3" 모두 버전 3 (제목/본문은 버전이 같으면 같음)
+ */
+public final class PostETag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private PostETag() {
+    }
+
+    public static String of(Long version) {
+        return weak(String.valueOf(version));
+    }
+
+    /**
+     * 필드를 선택한 응답은 전체 응답과 다른 ETag ex) W/"3-id.title"
+     */
+    public static String of(Long version, Set<PostField> fields) {
+        if (PostField.isAll(fields)) {
+            return of(version);
+        }
+        return weak(version + "-" + PostField.toTag(fields));
+    }
+
+    /**
+     * 글 목록 ETag
+     * - 글이 하나라도 바뀌면 epoch가 바뀌므로 목록 내용 대신 epoch와 페이지 위치로 만듦
+     * ex) W/"1700000000123-0-10" (epoch-offset-limit)
+     * - 검색어 검색은 색인/캐시가 커밋 이후에 갱신되므로 ETag를 만들지 않음 (PostService.getListETag)
+     */
+    public static String ofList(long epoch, PostSearch postSearch) {
+        Set<PostField> fields = postSearch.getSelectedFields();
+        String suffix = PostField.isAll(fields) ? "" : "-" + PostField.toTag(fields);
+        return weak(epoch + "-" + postSearch.getOffset() + "-" + postSearch.getLimit() + suffix);
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 ETag가 포함되어 있는지
+     */
+    public static boolean matchesNoneMatch(String ifNoneMatch, String eTag) {
+        return matches(ifNoneMatch, eTag);
+    }
+
+    /**
+     * If-Match 헤더에 현재 버전이 포함되어 있는지
+     */
+    public static boolean matchesMatch(String ifMatch, Long version) {
+        return version != null && matches(ifMatch, of(version));
+    }
+
+    private static String weak(String opaqueTag) {
+        return WEAK_PREFIX + "\"" + opaqueTag + "\"";
+    }
+
+    // W/를 뗀 태그끼리 비교
+    private static boolean matches(String header, String current) {
+        if (header == null) {
+            return false;
+        }
+
+        String opaqueCurrent = stripWeak(current);
+        for (String tag : header.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals(ANY)) {
+                return true;
+            }
+            if (stripWeak(trimmed).equals(opaqueCurrent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
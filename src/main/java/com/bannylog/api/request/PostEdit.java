@@ -1,11 +1,13 @@
 package com.bannylog.api.request;
 
+import com.bannylog.api.validation.ForbiddenWordMatcher;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
 
 @Getter
 @Setter
@@ -15,7 +17,8 @@ public class PostEdit {
     @NotBlank(message = "타이틀을 입력해주세요.")
     public String title;
 
-    @NotBlank(message = "컨텐츠를 입력해주세요.")
+    // 보내지 않으면(null) 본문은 읽지도 바꾸지도 않음, 보낸 경우에는 공백만으로는 안 됨
+    @Pattern(regexp = "(?s).*\\S.*", message = "컨텐츠를 입력해주세요.")
     public String content;
 
     // @Builder 같은 경우는 클래스보다는 생성자 위에 다는 것이 좋다. 다른 어노테이션, final 키워드와 혼용 시 모순이 발생할 수 있기 때문이다.
@@ -24,4 +27,12 @@ public class PostEdit {
         this.title = title;
         this.content = content;
     }
+
+    /**
+     * 제목, 내용 금지어 검사
+     * @param forbiddenWords ForbiddenWordDictionary.current()
+     */
+    public void validate(ForbiddenWordMatcher forbiddenWords) {
+        forbiddenWords.validate(title, content);
+    }
 }
@@ -0,0 +1,68 @@
+package com.bannylog.api.request;
+
+import com.bannylog.api.exception.InvalidRequest;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 글 조회 시 선택할 수 있는 필드 (fields=id,title)
+ */
+public enum PostField {
+
+    ID("id"),
+    TITLE("title"),
+    CONTENT("content");
+
+    private static final Set<PostField> ALL = Collections.unmodifiableSet(EnumSet.allOf(PostField.class));
+
+    private final String fieldName;
+
+    PostField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @param fields 쉼표로 구분된 필드 이름, 없으면 전체 필드
+     * @return 선택된 필드
+     */
+    public static Set<PostField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<PostField> selected = EnumSet.noneOf(PostField.class);
+        for (String name : fields.split(",")) {
+            selected.add(of(name.trim()));
+        }
+        return selected;
+    }
+
+    public static boolean isAll(Set<PostField> fields) {
+        return fields.size() == ALL.size();
+    }
+
+    /**
+     * ETag 구분용 ex) id.title
+     */
+    public static String toTag(Set<PostField> fields) {
+        return fields.stream()
+                .map(PostField::getFieldName)
+                .collect(Collectors.joining("."));
+    }
+
+    private static PostField of(String name) {
+        for (PostField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidRequest("fields", "선택할 수 없는 필드입니다: " + name);
+    }
+}
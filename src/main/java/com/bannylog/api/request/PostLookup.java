@@ -0,0 +1,34 @@
+package com.bannylog.api.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 글 여러 건 조회 요청 (ID가 많아 query string에 담기 어려운 경우)
+ * {
+ *     "ids": [3, 1, 2]
+ * }
+ */
+@ToString
+@Setter
+@Getter
+public class PostLookup {
+
+    public static final int MAX_SIZE = 1000;
+
+    @NotEmpty(message = "글 ID를 1개 이상 입력해주세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 1000개까지 조회할 수 있습니다.")
+    private List<@NotNull(message = "글 ID를 입력해주세요.") Long> ids;
+
+    @Builder
+    public PostLookup(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,29 @@
+package com.bannylog.api.request;
+
+import java.io.IOException;
+
+/**
+ * 가져오기(import) 요청 본문에서 글을 한 건씩 읽어오는 reader
+ * - 전체 본문을 메모리에 올리지 않고 한 건씩 파싱
+ */
+public interface PostRecordReader {
+
+    /**
+     * 읽을 행이 남았는지 (빈 행은 건너뜀)
+     * - 입력의 끝은 이 메서드로만 판단 (next()는 null을 반환하지 않음)
+     * @throws com.bannylog.api.exception.InvalidRequest 행을 나눌 수 없는 경우 (CSV 닫히지 않은 따옴표 등)
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * 다음 글
+     * @throws java.util.NoSuchElementException 더 이상 읽을 행이 없는 경우
+     * @throws com.bannylog.api.exception.InvalidRequest 해당 행의 형식이 잘못된 경우 (다음 행은 계속 읽을 수 있음)
+     */
+    PostCreate next() throws IOException;
+
+    /**
+     * 마지막으로 읽은 행 번호 (1부터 시작, 오류 응답용)
+     */
+    long getRecordNumber();
+}
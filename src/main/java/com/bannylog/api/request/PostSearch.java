@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Set;
+
 @Getter
 @Setter
 @Builder
@@ -18,8 +20,38 @@ public class PostSearch {
     @Builder.Default
     private Integer size = 10;
 
+    // 커서 페이징 시 이전 페이지 응답의 nextCursor 값 (첫 페이지는 빈 값)
+    private String cursor;
+
+    // 응답에 포함할 필드 ex) id,title (없으면 전체)
+    private String fields;
+
+    // 제목/본문 검색어 (없으면 전체 목록)
+    private String keyword;
+
     public long getOffset() {
-        return (long) (Math.max(1, page) - 1) * Math.min(size, MAX_SIZE);
+        return (long) (Math.max(1, page) - 1) * getLimit();
+    }
+
+    // 1 ~ MAX_SIZE (0 이하는 1)
+    public int getLimit() {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 커서에 담긴 마지막 조회 글 ID
+     * @return 첫 페이지인 경우 null
+     */
+    public Long getLastSeenId() {
+        return PostCursor.decode(cursor);
+    }
+
+    public Set<PostField> getSelectedFields() {
+        return PostField.parse(fields);
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
     }
 
 //    @Builder
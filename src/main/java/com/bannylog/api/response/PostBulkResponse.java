@@ -0,0 +1,26 @@
+package com.bannylog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 글 여러 건 조회 응답
+ * {
+ *     "posts": [...],       // 요청한 ID 순서 (중복 ID는 한 번만)
+ *     "missingIds": [4, 5]  // 존재하지 않는 글 ID
+ * }
+ */
+@Getter
+public class PostBulkResponse {
+
+    private final List<PostResponse> posts;
+    private final List<Long> missingIds;
+
+    @Builder
+    public PostBulkResponse(List<PostResponse> posts, List<Long> missingIds) {
+        this.posts = posts;
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bannylog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 응답
+ * {
+ *     "posts": [...],
+ *     "nextCursor": "MTA" // 마지막 페이지면 null
+ * }
+ */
+@Getter
+public class PostCursorResponse {
+
+    private final List<PostResponse> posts;
+    private final String nextCursor;
+
+    @Builder
+    public PostCursorResponse(List<PostResponse> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+}
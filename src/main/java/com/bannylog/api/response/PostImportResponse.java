@@ -0,0 +1,51 @@
+package com.bannylog.api.response;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 글 가져오기 결과
+ * {
+ *     "accepted": 998,
+ *     "rejected": 2,
+ *     "errors": [
+ *         { "record": 3, "validation": { "title": "타이틀을 입력해주세요." } }
+ *     ]
+ * }
+ */
+@Getter
+public class PostImportResponse {
+
+    // 오류 상세는 앞에서부터 최대 개수까지만 응답
+    private static final int MAX_ERRORS = 100;
+
+    private long accepted;
+    private long rejected;
+    private final List<RejectedRecord> errors = new ArrayList<>();
+
+    public void accept(int count) {
+        accepted += count;
+    }
+
+    public void reject(long record, Map<String, String> validation) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RejectedRecord(record, validation));
+        }
+    }
+
+    @Getter
+    public static class RejectedRecord {
+
+        private final long record;
+        private final Map<String, String> validation;
+
+        public RejectedRecord(long record, Map<String, String> validation) {
+            this.record = record;
+            this.validation = validation;
+        }
+    }
+}
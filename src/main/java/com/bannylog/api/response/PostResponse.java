@@ -1,33 +1,96 @@
 package com.bannylog.api.response;
 
 import com.bannylog.api.domain.Post;
+import com.bannylog.api.request.PostField;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Set;
+
 /**
  * 서비스 정책에 맞는 클래스
  */
 
+// fields로 선택하지 않은 필드(null)는 응답에서 제외
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PostResponse {
 
     private final Long id;
     private final String title;
     private final String content;
 
+    // 캐시에 넣는 응답에는 채우지 않고, 응답할 때 PostViewCounter 값으로 채움
+    private final Long viewCount;
+
+    // 응답 body 대신 ETag 헤더로 전달
+    @JsonIgnore
+    private final Long version;
+
     // 생성자 오버로딩
     public PostResponse(Post post) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
+        this.viewCount = null;
+        this.version = post.getVersion();
+    }
+
+    // 목록 조회(fields 선택) 시 조회한 컬럼만으로 생성, 선택하지 않은 필드는 null
+    public PostResponse(Long id, String title, String content) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.viewCount = null;
+        this.version = null;
     }
 
     // client 요구사항
     // json 응답에서 title 값의 길이를 최대 10글자로 해주세요. -> 응답 클래스 분리
     @Builder
-    public PostResponse(Long id, String title, String content) {
+    public PostResponse(Long id, String title, String content, Long viewCount, Long version) {
         this.id = id;
-        this.title = title.substring(0, Math.min(title.length(), 10));
+        this.title = title == null ? null : title.substring(0, Math.min(title.length(), 10));
         this.content = content;
+        this.viewCount = viewCount;
+        this.version = version;
+    }
+
+    /**
+     * 조회수를 채운 응답
+     * - 캐시된 응답은 그대로 두고 새 응답을 만듦
+     * @param viewCount null이면 조회수 없이 응답
+     * @return postResponse
+     */
+    public PostResponse withViewCount(Long viewCount) {
+        if (viewCount == null) {
+            return this;
+        }
+        return new PostResponse(this, viewCount);
+    }
+
+    // 제목은 이미 잘린 값이므로 그대로 복사
+    private PostResponse(PostResponse source, Long viewCount) {
+        this.id = source.id;
+        this.title = source.title;
+        this.content = source.content;
+        this.viewCount = viewCount;
+        this.version = source.version;
+    }
+
+    /**
+     * 선택한 필드만 남긴 응답
+     * @param fields
+     * @return postResponse
+     */
+    public PostResponse select(Set<PostField> fields) {
+        return PostResponse.builder()
+                .id(fields.contains(PostField.ID) ? id : null)
+                .title(fields.contains(PostField.TITLE) ? title : null)
+                .content(fields.contains(PostField.CONTENT) ? content : null)
+                .version(version)
+                .build();
     }
 }
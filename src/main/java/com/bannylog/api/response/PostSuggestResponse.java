@@ -0,0 +1,22 @@
+package com.bannylog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 제목 자동완성 응답
+ * - 제목은 자르지 않고 그대로 내려준다.
+ */
+@Getter
+public class PostSuggestResponse {
+
+    private final Long id;
+    private final String title;
+
+    // QueryDSL Projections.constructor에서 사용하므로 파라미터 순서 주의
+    @Builder
+    public PostSuggestResponse(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
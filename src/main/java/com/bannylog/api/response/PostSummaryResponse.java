@@ -0,0 +1,24 @@
+package com.bannylog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 목록 조회용 요약 응답
+ * - content 대신 작성 시점에 저장된 excerpt만 내려준다.
+ */
+@Getter
+public class PostSummaryResponse {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+
+    // QueryDSL Projections.constructor에서 사용하므로 파라미터 순서 주의
+    @Builder
+    public PostSummaryResponse(Long id, String title, String excerpt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bannylog.api.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인기 글 응답
+ * - score: 시간 감쇠가 적용된 현재 점수 (조회 1, 수정 5)
+ */
+@Getter
+public class PostTrendingResponse {
+
+    private final Long id;
+    private final String title;
+    private final double score;
+
+    @Builder
+    public PostTrendingResponse(Long id, String title, double score) {
+        this.id = id;
+        this.title = title;
+        this.score = score;
+    }
+}
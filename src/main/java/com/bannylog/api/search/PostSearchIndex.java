@@ -0,0 +1,341 @@
+package com.bannylog.api.search;
+
+import com.bannylog.api.domain.Post;
+import com.bannylog.api.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 제목/본문 키워드 검색용 메모리 역색인
+ * - 토큰 -> 글 ID 목록(Postings)으로 검색어의 모든 토큰을 포함한 글만 찾음 (AND)
+ * - 점수는 TF-IDF: (1 + log(빈도)) * log(1 + 전체 글 수 / 토큰이 포함된 글 수)의 합, 제목에 나온 토큰은 빈도를 TITLE_WEIGHT배로 계산
+ * - 점수가 같으면 최신 글(큰 ID)이 먼저
+ * - 글 쓰기/수정/삭제가 커밋된 뒤 PostService에서 갱신하고, 기동 시 전체 글로 채움
+ * - 이 애플리케이션을 거치지 않고 DB에서 직접 바꾼 글은 재시작 전까지 반영되지 않음
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+
+    // 자주 나오는 작은 빈도의 tf는 미리 계산
+    private static final double[] TF_CACHE = new double[64];
+
+    static {
+        for (int freq = 1; freq < TF_CACHE.length; freq++) {
+            TF_CACHE[freq] = 1 + Math.log(freq);
+        }
+    }
+
+    // 점수가 낮은 결과가 먼저 (상위 N개만 남기기 위한 힙용)
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::getScore)
+            .thenComparingLong(Hit::getId);
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    // 글을 다시 색인할 때 기존 토큰을 지우기 위해 색인한 토큰별 빈도를 보관 (원문은 보관하지 않음)
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    // 기동 시 채우는 동안 삭제된 글 (채우기가 끝나면 비움)
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private boolean loaded;
+
+    public PostSearchIndex(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 기동 시 전체 글 색인
+     * - 채우는 동안 수정된 글은 버전이 더 높은 쪽을 유지하고, 삭제된 글은 다시 추가하지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long count = transactionTemplate.execute(status -> {
+            try (Stream<Post> posts = postRepository.streamAll()) {
+                return posts.mapToLong(post -> {
+                    put(post.getId(), post.getVersion(), post.getTitle(), post.getContent());
+                    return 1;
+                }).sum();
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            loaded = true;
+            removedWhileLoading.clear();
+            log.info("post search index ready: posts={}, terms={}", count, postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 글 색인 (이미 있으면 다시 색인)
+     * @param version 이미 색인된 버전보다 낮으면 무시
+     * @param content null이면 기존 본문 유지 (제목만 수정한 경우)
+     */
+    public void put(Long id, Long version, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded && removedWhileLoading.contains(id)) {
+                return;
+            }
+
+            Document existing = documents.get(id);
+            if (existing != null && existing.isNewerThan(version)) {
+                return;
+            }
+
+            TermFreqs contentTerms = content == null ? null : TermFreqs.of(content);
+            if (existing != null) {
+                unindex(id, existing);
+                if (contentTerms == null) {
+                    contentTerms = existing.content;
+                }
+            }
+
+            Document document = new Document(version, TermFreqs.of(title), contentTerms == null ? TermFreqs.EMPTY : contentTerms);
+            documents.put(id, document);
+
+            for (Map.Entry<String, Integer> term : document.termFreqs().entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new Postings())
+                        .put(id, term.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                removedWhileLoading.add(id);
+            }
+
+            Document existing = documents.remove(id);
+            if (existing != null) {
+                unindex(id, existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색
+     * @return 점수 순으로 정렬된 글 ID 중 offset부터 limit개
+     */
+    public List<Long> search(String keyword, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(PostTokenizer.tokenize(keyword));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Hit> hits;
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists[i++] = list;
+            }
+
+            // 가장 짧은 목록을 기준으로 나머지 목록에서 찾음
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+            if (offset >= lists[0].size()) {
+                return List.of();
+            }
+
+            double[] idfs = new double[lists.length];
+            for (int j = 0; j < lists.length; j++) {
+                idfs[j] = Math.log(1 + (double) documents.size() / lists[j].size());
+            }
+
+            hits = topHits(lists, idfs, (int) Math.min(offset + limit, lists[0].size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(WORST_FIRST.reversed());
+        return hits.stream()
+                .skip(offset)
+                .map(Hit::getId)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> topHits(Postings[] lists, double[] idfs, int count) {
+        PriorityQueue<Hit> top = new PriorityQueue<>(count + 1, WORST_FIRST);
+        Postings smallest = lists[0];
+        int[] cursors = new int[lists.length];
+
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.idAt(i);
+            double score = tf(smallest.freqAt(i)) * idfs[0];
+
+            for (int j = 1; j < lists.length; j++) {
+                int index = lists[j].seek(id, cursors[j]);
+                if (index < 0) {
+                    cursors[j] = -index - 1;
+                    continue candidates;
+                }
+                cursors[j] = index;
+                score += tf(lists[j].freqAt(index)) * idfs[j];
+            }
+
+            // 이미 상위 count개가 찼으면 가장 낮은 점수보다 높은 경우에만 교체
+            if (top.size() < count) {
+                top.offer(new Hit(id, score));
+            } else if (isBetter(score, id, top.peek())) {
+                top.poll();
+                top.offer(new Hit(id, score));
+            }
+        }
+
+        return new ArrayList<>(top);
+    }
+
+    private void unindex(Long id, Document document) {
+        for (String term : document.termFreqs().keySet()) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            list.remove(id);
+            if (list.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static boolean isBetter(double score, long id, Hit hit) {
+        return score > hit.getScore() || (score == hit.getScore() && id > hit.getId());
+    }
+
+    private static double tf(int freq) {
+        return freq < TF_CACHE.length ? TF_CACHE[freq] : 1 + Math.log(freq);
+    }
+
+    private static final class Document {
+
+        private final Long version;
+        private final TermFreqs title;
+        private final TermFreqs content;
+
+        private Document(Long version, TermFreqs title, TermFreqs content) {
+            this.version = version;
+            this.title = title;
+            this.content = content;
+        }
+
+        private boolean isNewerThan(Long other) {
+            return version != null && other != null && version > other;
+        }
+
+        // 토큰별 빈도 (제목은 TITLE_WEIGHT배)
+        private Map<String, Integer> termFreqs() {
+            Map<String, Integer> freqs = new HashMap<>();
+            for (int i = 0; i < title.terms.length; i++) {
+                freqs.merge(title.terms[i], title.freqs[i] * TITLE_WEIGHT, Integer::sum);
+            }
+            for (int i = 0; i < content.terms.length; i++) {
+                freqs.merge(content.terms[i], content.freqs[i], Integer::sum);
+            }
+            return freqs;
+        }
+    }
+
+    /**
+     * 토큰별 빈도를 배열 두 개로 보관 (Map보다 작음)
+     */
+    private static final class TermFreqs {
+
+        private static final TermFreqs EMPTY = new TermFreqs(new String[0], new int[0]);
+
+        private final String[] terms;
+        private final int[] freqs;
+
+        private TermFreqs(String[] terms, int[] freqs) {
+            this.terms = terms;
+            this.freqs = freqs;
+        }
+
+        private static TermFreqs of(String text) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (String token : PostTokenizer.tokenize(text)) {
+                counts.merge(token, 1, Integer::sum);
+            }
+            if (counts.isEmpty()) {
+                return EMPTY;
+            }
+
+            String[] terms = new String[counts.size()];
+            int[] freqs = new int[counts.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                terms[i] = count.getKey();
+                freqs[i] = count.getValue();
+                i++;
+            }
+            return new TermFreqs(terms, freqs);
+        }
+    }
+
+    private static final class Hit {
+
+        private final long id;
+        private final double score;
+
+        private Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        private long getId() {
+            return id;
+        }
+
+        private double getScore() {
+            return score;
+        }
+    }
+}
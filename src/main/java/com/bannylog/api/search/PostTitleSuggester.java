@@ -0,0 +1,161 @@
+package com.bannylog.api.search;
+
+import com.bannylog.api.repository.PostRepository;
+import com.bannylog.api.response.PostSuggestResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * 글 제목 자동완성
+ * - 정규화한 제목을 정렬된 맵(skip list)에 보관하고, 접두어 위치부터 순서대로 size개를 읽음
+ * - 조회는 락 없이 동시에 가능하고, 쓰기(글 쓰기/수정/삭제 커밋 후)만 동기화
+ * - 정규화: NFKD 분해 + 소문자 + 연속 공백 하나로
+ *   -> 한글 음절을 자모로 분해하므로 입력 중인 "낙ㅅ", "낙서"도 "낙성대"의 접두어가 됨
+ * - 기동 시 전체 글 제목으로 채움
+ */
+@Slf4j
+@Component
+public class PostTitleSuggester {
+
+    // 같은 제목의 글을 구분하기 위해 키 뒤에 붙이는 구분자 (정규화한 제목에는 나오지 않음)
+    private static final char ID_SEPARATOR = '\u0000';
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 정규화한 제목 + 구분자 + 글 ID -> 응답
+    private final ConcurrentSkipListMap<String, PostSuggestResponse> titles = new ConcurrentSkipListMap<>();
+
+    // 글 ID -> 현재 키 (수정/삭제 시 기존 키를 지우기 위해 사용)
+    private final Map<Long, String> keys = new ConcurrentHashMap<>();
+
+    // 기동 시 채우는 동안 삭제된 글 (채우기가 끝나면 비움)
+    private final Set<Long> removedWhileLoading = new HashSet<>();
+    private boolean loaded;
+
+    public PostTitleSuggester(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 기동 시 전체 글 제목으로 채우기
+     * - 채우는 동안 쓰기/수정된 글은 이미 최신 제목이 들어 있으므로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long count = transactionTemplate.execute(status -> {
+            try (Stream<PostSuggestResponse> posts = postRepository.streamAllTitles()) {
+                return posts.mapToLong(post -> {
+                    load(post.getId(), post.getTitle());
+                    return 1;
+                }).sum();
+            }
+        });
+
+        synchronized (this) {
+            loaded = true;
+            removedWhileLoading.clear();
+        }
+        log.info("post title suggester ready: posts={}", count);
+    }
+
+    public synchronized void put(Long id, String title) {
+        if (title == null) {
+            remove(id);
+            return;
+        }
+
+        // 새 제목을 먼저 넣고 키를 바꿔서 titleOf()가 수정 중에도 제목을 찾을 수 있게 함
+        String key = normalize(title) + ID_SEPARATOR + id;
+        titles.put(key, PostSuggestResponse.builder()
+                .id(id)
+                .title(title)
+                .build());
+
+        String oldKey = keys.put(id, key);
+        if (oldKey != null && !oldKey.equals(key)) {
+            titles.remove(oldKey);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        if (!loaded) {
+            removedWhileLoading.add(id);
+        }
+
+        String oldKey = keys.remove(id);
+        if (oldKey != null) {
+            titles.remove(oldKey);
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목 조회
+     * @return 정규화한 제목 순으로 최대 size개
+     */
+    public List<PostSuggestResponse> suggest(String prefix, int size) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        List<PostSuggestResponse> suggestions = new ArrayList<>(size);
+        for (Map.Entry<String, PostSuggestResponse> entry : titles.tailMap(normalized).entrySet()) {
+            if (!entry.getKey().startsWith(normalized) || suggestions.size() == size) {
+                break;
+            }
+            suggestions.add(entry.getValue());
+        }
+        return suggestions;
+    }
+
+    /**
+     * 글 ID로 제목 조회 (락 없음)
+     * @return 없는 글(삭제된 글)이면 null
+     */
+    public String titleOf(Long id) {
+        String key = keys.get(id);
+        PostSuggestResponse post = key == null ? null : titles.get(key);
+        return post == null ? null : post.getTitle();
+    }
+
+    public int size() {
+        return titles.size();
+    }
+
+    private synchronized void load(Long id, String title) {
+        if (keys.containsKey(id) || removedWhileLoading.contains(id)) {
+            return;
+        }
+        put(id, title);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .toLowerCase(Locale.ROOT)
+                .replace(ID_SEPARATOR, ' ')
+                .replaceAll("\\s+", " ")
+                .strip();
+    }
+}
@@ -0,0 +1,87 @@
+package com.bannylog.api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토큰 분리
+ * - NFKC 정규화 후 소문자로 변환
+ * - 한글/한자/가나는 띄어쓰기와 조사 때문에 단어로 자르기 어려우므로 두 글자씩 겹쳐서 자름 (bigram)
+ *   ex) "낙성대에서" -> 낙성, 성대, 대에, 에서 -> "낙성대"로 검색하면 낙성, 성대를 모두 포함한 글이 검색됨
+ * - 한 글자만 있는 경우는 그 글자가 토큰
+ * - 그 외 문자/숫자는 단어 단위 ex) "Spring Boot3" -> spring, boot3
+ * - 같은 토큰이 여러 번 나오면 나온 횟수만큼 포함
+ */
+public final class PostTokenizer {
+
+    private static final int SEPARATOR = 0;
+    private static final int CJK = 1;
+    private static final int WORD = 2;
+
+    private PostTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int start = 0;
+        int type = SEPARATOR;
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            int codePointType = typeOf(codePoint);
+            if (codePointType != type) {
+                addRun(normalized, start, i, type, tokens);
+                start = i;
+                type = codePointType;
+            }
+            i += Character.charCount(codePoint);
+        }
+        addRun(normalized, start, normalized.length(), type, tokens);
+
+        return tokens;
+    }
+
+    private static void addRun(String text, int start, int end, int type, List<String> tokens) {
+        if (type == SEPARATOR || start >= end) {
+            return;
+        }
+        if (type == WORD) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+
+        // 서로게이트 쌍이 잘리지 않도록 코드 포인트 단위로 자름
+        int first = start;
+        int second = text.offsetByCodePoints(first, 1);
+        if (second >= end) {
+            tokens.add(text.substring(first, end));
+            return;
+        }
+
+        while (second < end) {
+            int third = text.offsetByCodePoints(second, 1);
+            tokens.add(text.substring(first, third));
+            first = second;
+            second = third;
+        }
+    }
+
+    private static int typeOf(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        if (script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA) {
+            return CJK;
+        }
+        return Character.isLetterOrDigit(codePoint) ? WORD : SEPARATOR;
+    }
+}
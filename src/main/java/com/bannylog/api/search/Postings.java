@@ -0,0 +1,88 @@
+package com.bannylog.api.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나의 posting 목록 (글 ID 오름차순)
+ * - 글 ID와 빈도를 배열 두 개에 저장해서 Map<Long, Integer>보다 메모리를 적게 사용
+ * - 새 글은 대부분 가장 큰 ID라서 끝에 추가됨
+ * - 동기화하지 않으므로 PostSearchIndex의 락 안에서만 사용
+ */
+final class Postings {
+
+    private long[] ids = new long[4];
+    private int[] freqs = new int[4];
+    private int size;
+
+    void put(long id, int freq) {
+        int index = indexOf(id);
+        if (index >= 0) {
+            freqs[index] = freq;
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        freqs[insertAt] = freq;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * from 이후에서 id 찾기
+     * - 교집합을 구할 때는 찾는 id가 대부분 from 근처에 있으므로 from부터 간격을 두 배씩 늘려가며 범위를 좁힌 뒤 이진 탐색
+     * @return 있으면 위치, 없으면 -(들어갈 위치) - 1
+     */
+    int seek(long id, int from) {
+        if (from >= size || ids[from] >= id) {
+            return from < size && ids[from] == id ? from : -from - 1;
+        }
+
+        // ids[low] < id <= ids[high] (high가 size 이상이면 끝까지)
+        int low = from;
+        int step = 1;
+        int high = from + step;
+        while (high < size && ids[high] < id) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        return Arrays.binarySearch(ids, low + 1, Math.min(high + 1, size), id);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    int freqAt(int index) {
+        return freqs[index];
+    }
+
+    private int indexOf(long id) {
+        // 가장 큰 ID 뒤에 추가하는 경우는 바로 처리
+        if (size == 0 || ids[size - 1] < id) {
+            return -size - 1;
+        }
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+}
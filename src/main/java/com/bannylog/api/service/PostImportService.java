@@ -0,0 +1,146 @@
+package com.bannylog.api.service;
+
+import com.bannylog.api.exception.InvalidRequest;
+import com.bannylog.api.request.CsvPostRecordReader;
+import com.bannylog.api.request.NdjsonPostRecordReader;
+import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.request.PostRecordReader;
+import com.bannylog.api.response.PostImportResponse;
+import com.bannylog.api.validation.ForbiddenWordDictionary;
+import com.bannylog.api.validation.ForbiddenWordMatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 글 가져오기(import)
+ * - 요청 본문을 한 건씩 읽으면서 검증하고, chunk-size 단위로 모아서 커밋
+ * - 잘못된 행은 건너뛰고 결과에 행 번호와 사유를 기록
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    private final PostService postService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ForbiddenWordDictionary forbiddenWordDictionary;
+    private final int chunkSize;
+
+    public PostImportService(PostService postService,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             ForbiddenWordDictionary forbiddenWordDictionary,
+                             @Value("${bannylog.import.chunk-size:500}") int chunkSize) {
+        this.postService = postService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.forbiddenWordDictionary = forbiddenWordDictionary;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 글 가져오기
+     * @param contentType application/x-ndjson 또는 text/csv
+     * @param body 요청 본문
+     * @return 저장/거부된 글 개수
+     */
+    public PostImportResponse importPosts(MediaType contentType, InputStream body) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader reader = new InputStreamReader(body, charset);
+
+        PostRecordReader records = TEXT_CSV.isCompatibleWith(contentType)
+                ? new CsvPostRecordReader(reader)
+                : new NdjsonPostRecordReader(reader, objectMapper);
+
+        return importPosts(records);
+    }
+
+    public PostImportResponse importPosts(PostRecordReader records) throws IOException {
+        PostImportResponse result = new PostImportResponse();
+        List<PostCreate> chunk = new ArrayList<>(chunkSize);
+
+        // 가져오는 도중 사전이 바뀌어도 같은 사전으로 검사
+        ForbiddenWordMatcher forbiddenWords = forbiddenWordDictionary.current();
+
+        while (true) {
+            PostCreate postCreate;
+            try {
+                if (!records.hasNext()) {
+                    break;
+                }
+                postCreate = records.next();
+            } catch (InvalidRequest e) {
+                result.reject(records.getRecordNumber(), e.getValidation());
+                continue;
+            }
+
+            Map<String, String> validation = validate(postCreate, forbiddenWords);
+            if (!validation.isEmpty()) {
+                result.reject(records.getRecordNumber(), validation);
+                continue;
+            }
+
+            chunk.add(postCreate);
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, result);
+            }
+        }
+
+        flush(chunk, result);
+        log.info("글 가져오기 완료 accepted={}, rejected={}", result.getAccepted(), result.getRejected());
+        return result;
+    }
+
+    /**
+     * @NotBlank 등 빈 검증 + PostCreate.validate()
+     * @return 필드명 -> 오류 메시지 (문제가 없으면 비어 있음)
+     */
+    private Map<String, String> validate(PostCreate postCreate, ForbiddenWordMatcher forbiddenWords) {
+        Map<String, String> validation = new LinkedHashMap<>();
+
+        Set<ConstraintViolation<PostCreate>> violations = validator.validate(postCreate);
+        for (ConstraintViolation<PostCreate> violation : violations) {
+            validation.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (!validation.isEmpty()) {
+            return validation;
+        }
+
+        try {
+            postCreate.validate(forbiddenWords);
+        } catch (InvalidRequest e) {
+            validation.putAll(e.getValidation());
+        }
+        return validation;
+    }
+
+    // chunk 단위로 별도 트랜잭션에서 커밋
+    private void flush(List<PostCreate> chunk, PostImportResponse result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        postService.writeAll(chunk);
+        result.accept(chunk.size());
+        chunk.clear();
+    }
+}
@@ -1,26 +1,59 @@
 package com.bannylog.api.service;
 
+import com.bannylog.api.cache.PostCache;
+import com.bannylog.api.cache.PostChangeEpoch;
+import com.bannylog.api.cache.PostIdFilter;
+import com.bannylog.api.cache.PostListCache;
+import com.bannylog.api.cache.PostViewCounter;
+import com.bannylog.api.cache.TrendingPostRanking;
 import com.bannylog.api.domain.Post;
 import com.bannylog.api.domain.PostEditor;
+import com.bannylog.api.exception.InvalidRequest;
 import com.bannylog.api.exception.PostNotFound;
+import com.bannylog.api.exception.PreconditionFailed;
 import com.bannylog.api.repository.PostRepository;
 import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.request.PostCursor;
+import com.bannylog.api.request.PostETag;
 import com.bannylog.api.request.PostEdit;
+import com.bannylog.api.request.PostField;
+import com.bannylog.api.request.PostLookup;
 import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.response.PostBulkResponse;
+import com.bannylog.api.response.PostCursorResponse;
 import com.bannylog.api.response.PostResponse;
+import com.bannylog.api.response.PostSuggestResponse;
+import com.bannylog.api.response.PostTrendingResponse;
+import com.bannylog.api.response.PostSummaryResponse;
+import com.bannylog.api.search.PostSearchIndex;
+import com.bannylog.api.search.PostTitleSuggester;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_DELETE_SIZE = 1000;
+
+    private static final int MAX_SUGGEST_SIZE = 20;
+
     /**
      * Controller -> WebPostService(response를 위한 작업)       -> Repository
      *               PostService(외부 service와 통신하기 위한 작업)
@@ -28,6 +61,22 @@ public class PostService {
 
     private final PostRepository postRepository;
 
+    private final PostCache postCache;
+
+    private final PostChangeEpoch postChangeEpoch;
+
+    private final PostListCache postListCache;
+
+    private final PostIdFilter postIdFilter;
+
+    private final PostSearchIndex postSearchIndex;
+
+    private final PostTitleSuggester postTitleSuggester;
+
+    private final PostViewCounter postViewCounter;
+
+    private final TrendingPostRanking trendingPostRanking;
+
     /**
      * 글 쓰기
      * @param postCreate
@@ -39,30 +88,275 @@ public class PostService {
                 .build();
 
         postRepository.save(post);
+        afterCommit(() -> {
+            index(post);
+            trendingPostRanking.recordEdit(post.getId());
+        });
+    }
+
+    /**
+     * 글 일괄 쓰기
+     * - 시퀀스로 미리 id를 할당받기 때문에 커밋 시점에 batch_size 단위로 묶어서 insert
+     * @param postCreates
+     */
+    @Transactional
+    public void writeAll(List<PostCreate> postCreates) {
+        List<Post> posts = postCreates.stream()
+                .map(postCreate -> Post.builder()
+                        .title(postCreate.getTitle())
+                        .content(postCreate.getContent())
+                        .build())
+                .collect(Collectors.toList());
+
+        postRepository.saveAll(posts);
+        afterCommit(() -> posts.forEach(this::index));
+    }
+
+    // 커밋된 글 검색 색인, 제목 자동완성에 추가 (id, version은 저장 후에 채워짐)
+    private void index(Post post) {
+        postSearchIndex.put(post.getId(), post.getVersion(), post.getTitle(), post.getContent());
+        postTitleSuggester.put(post.getId(), post.getTitle());
     }
 
     /**
      * 글 단건 조회
+     * - 글 ID 필터에 없는 글은 DB 조회 없이 PostNotFound
+     * - 캐시에 없는 경우에만 DB 조회
+     * - 동시에 들어온 같은 글 조회는 먼저 시작된 DB 조회 결과를 함께 사용
      * @param id
      * @return postResponse
      */
     public PostResponse get(Long id) {
+        if (!postIdFilter.mightExist(id)) {
+            throw new PostNotFound();
+        }
+
+        return withViewCount(postCache.get(id, this::load));
+    }
+
+    /**
+     * 글 단건 조회 (필드 선택)
+     * - 캐시에 있으면 캐시 값에서 필드만 남기고, 없으면 선택한 컬럼만 조회 (content를 선택하지 않으면 LOB을 읽지 않음)
+     * - 일부 필드만 조회한 결과는 캐시하지 않음
+     * @param id
+     * @param fields
+     * @return postResponse
+     */
+    public PostResponse get(Long id, Set<PostField> fields) {
+        if (PostField.isAll(fields)) {
+            return get(id);
+        }
+        if (!postIdFilter.mightExist(id)) {
+            throw new PostNotFound();
+        }
+
+        PostResponse cached = postCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.select(fields);
+        }
+
+        return postRepository.findFieldsById(id, fields)
+                .orElseThrow(PostNotFound::new);
+    }
+
+    private PostResponse load(Long id) {
+        long stamp = postViewCounter.readStamp();
         Post post = postRepository.findById(id)
                 .orElseThrow(PostNotFound::new);
 
+        rememberViews(stamp, post);
+        return toResponse(post);
+    }
+
+    /**
+     * 글 여러 건 조회
+     * - 캐시에 없는 글만 IN 쿼리 한 번으로 조회
+     * - 요청한 ID 순서대로 응답하고, 중복 ID는 한 번만 포함
+     * - 없는 글은 예외 대신 missingIds에 담음
+     * @param ids
+     * @return PostBulkResponse
+     */
+    public PostBulkResponse getAll(List<Long> ids) {
+        if (ids.size() > PostLookup.MAX_SIZE) {
+            throw new InvalidRequest("ids", "한 번에 최대 " + PostLookup.MAX_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        // GET /posts?ids=1,,2 처럼 빈 값은 null로 바인딩됨
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequest("ids", "글 ID를 입력해주세요.");
+        }
+
+        return findAll(ids);
+    }
+
+    // 요청한 순서대로 조회 (개수 제한 없음 - 검색 결과처럼 서비스에서 만든 ID 목록도 사용)
+    private PostBulkResponse findAll(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<Long> candidates = requested.stream()
+                .filter(postIdFilter::mightExist)
+                .collect(Collectors.toList());
+
+        Map<Long, PostResponse> found = postCache.getAll(candidates, missing -> {
+            long stamp = postViewCounter.readStamp();
+            List<Post> loaded = postRepository.getListByIds(missing);
+            loaded.forEach(post -> rememberViews(stamp, post));
+            return loaded.stream()
+                    .collect(Collectors.toMap(Post::getId, this::toResponse));
+        });
+
+        List<PostResponse> posts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            PostResponse post = found.get(id);
+            if (post != null) {
+                posts.add(withViewCount(post));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return PostBulkResponse.builder()
+                .posts(posts)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    // 단건/여러 건 조회 응답 (제목은 최대 10글자)
+    private PostResponse toResponse(Post post) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
+                .version(post.getVersion())
                 .build();
     }
 
+    // 캐시에 넣을 글의 DB 조회수를 기록 (조회수는 캐시하지 않고 응답할 때 채움)
+    private void rememberViews(long stamp, Post post) {
+        rememberViews(stamp, post.getId(), post.getViewCount());
+    }
+
+    private void rememberViews(long stamp, Long id, long persisted) {
+        postViewCounter.remember(id, stamp, persisted,
+                () -> postRepository.findViewCountById(id).orElse(0L));
+    }
+
+    // 캐시된 응답에 현재 조회수(DB에 반영된 값 + 아직 반영되지 않은 값)를 채움
+    // - 오래 쓰이지 않아 조회수 기록에서 빠진 글이면 조회수만 다시 읽음
+    private PostResponse withViewCount(PostResponse post) {
+        Long viewCount = postViewCounter.viewCount(post.getId());
+        if (viewCount == null) {
+            long stamp = postViewCounter.readStamp();
+            Optional<Long> persisted = postRepository.findViewCountById(post.getId());
+            if (persisted.isPresent()) {
+                rememberViews(stamp, post.getId(), persisted.get());
+                viewCount = postViewCounter.viewCount(post.getId());
+            }
+        }
+        return post.withViewCount(viewCount);
+    }
+
+    // 캐시하지 않는 응답 (stamp: DB에서 읽기 전의 PostViewCounter.readStamp())
+    private PostResponse toResponse(Post post, long stamp) {
+        return new PostResponse(post)
+                .withViewCount(postViewCounter.viewCount(post.getId(), stamp, post.getViewCount()));
+    }
+
+    /**
+     * 조회수 증가
+     * - DB에는 PostViewCounter가 주기적으로 모아서 반영
+     * @param id
+     */
+    public void increaseViewCount(Long id) {
+        postViewCounter.increment(id);
+        trendingPostRanking.recordView(id);
+    }
+
+    /**
+     * 인기 글 조회
+     * - 메모리의 순위 스냅샷과 제목으로만 응답 (DB 조회 없음)
+     * - 순위 반영 전에 삭제된 글은 빠짐
+     * @param size 최대 개수 (최대 bannylog.trending.capacity)
+     * @return List<PostTrendingResponse>
+     */
+    public List<PostTrendingResponse> getTrending(int size) {
+        List<PostTrendingResponse> posts = new ArrayList<>();
+        for (TrendingPostRanking.Ranked ranked : trendingPostRanking.top(Math.min(size, trendingPostRanking.getCapacity()))) {
+            String title = postTitleSuggester.titleOf(ranked.getId());
+            if (title != null) {
+                posts.add(PostTrendingResponse.builder()
+                        .id(ranked.getId())
+                        .title(title)
+                        .score(ranked.getScore())
+                        .build());
+            }
+        }
+        return posts;
+    }
+
+    /**
+     * 글 버전 조회 (ETag 비교용)
+     * - 캐시에 있으면 캐시 값의 버전, 없으면 버전 컬럼만 조회해서 content(LOB)를 읽지 않음
+     * @param id
+     * @return version
+     */
+    public Long getVersion(Long id) {
+        if (!postIdFilter.mightExist(id)) {
+            throw new PostNotFound();
+        }
+
+        PostResponse cached = postCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+
+        return postRepository.findVersionById(id)
+                .orElseThrow(PostNotFound::new);
+    }
+
     /**
      * 글 목록 조회(검색 + 페이징)
+     * - 앞쪽 페이지는 글 변경이 없는 동안 캐시 값 사용
+     * - fields로 일부 필드만 선택하면 해당 컬럼만 조회 (캐시하지 않음)
+     * - keyword가 있으면 검색 색인에서 찾은 글만 점수 순으로 조회
      * @param postSearch
      * @return List<PostResponse>
      */
     public List<PostResponse> getList(PostSearch postSearch) {
+        Set<PostField> fields = postSearch.getSelectedFields();
+        if (postSearch.hasKeyword()) {
+            return search(postSearch, fields);
+        }
+        if (!PostField.isAll(fields)) {
+            return postRepository.getFieldList(postSearch, fields);
+        }
+
+        return postListCache.get(postSearch, this::loadList).stream()
+                .map(this::withViewCount)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 키워드 검색
+     * - 검색은 색인에서 하고, 찾은 글은 캐시에 없는 것만 IN 쿼리 한 번으로 조회
+     * - 색인 갱신 전에 삭제된 글은 결과에서 빠짐
+     */
+    private List<PostResponse> search(PostSearch postSearch, Set<PostField> fields) {
+        List<Long> ids = postSearchIndex.search(postSearch.getKeyword(), postSearch.getOffset(), postSearch.getLimit());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 검색 크기(PostSearch 최대 크기)는 여러 건 조회 제한(PostLookup.MAX_SIZE)과 별개
+        List<PostResponse> posts = findAll(ids).getPosts();
+        if (PostField.isAll(fields)) {
+            return posts;
+        }
+        return posts.stream()
+                .map(post -> post.select(fields))
+                .collect(Collectors.toList());
+    }
+
+    private List<PostResponse> loadList(PostSearch postSearch) {
         // application.yml 파일에서 one-indexed-parameters: true로 설정하면
         // web에서 page를 1로 넘겨줄 경우 내부적으로 0으로 바꿈
 
@@ -71,11 +365,92 @@ public class PostService {
         // - DB 뻗을 수 있음
         // - 애플리케이션 서버 시간 및 트래픽 발생
         // -> 페이징 처리
-        return postRepository.getList(postSearch).stream()
+        long stamp = postViewCounter.readStamp();
+        List<Post> posts = postRepository.getList(postSearch);
+        posts.forEach(post -> rememberViews(stamp, post));
+        return posts.stream()
                 .map(PostResponse::new)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 글 목록 ETag
+     * - 목록 조회 전에 계산해야 조회 도중 변경된 경우에도 다음 요청에서 새 목록을 받음
+     * - 커밋 중인 변경이 있으면 null (ETag 없이 응답)
+     * - 검색어 검색은 null: 색인과 글 캐시는 epoch가 바뀐 뒤(커밋 후)에 갱신되므로
+     *   그 사이에 조회한 예전 결과가 새 epoch의 ETag로 고정될 수 있음
+     * @param postSearch
+     * @return eTag
+     */
+    public String getListETag(PostSearch postSearch) {
+        if (postSearch.hasKeyword()) {
+            return null;
+        }
+
+        Long epoch = postChangeEpoch.stable();
+        return epoch == null ? null : PostETag.ofList(epoch, postSearch);
+    }
+
+    /**
+     * 제목 자동완성
+     * - DB를 조회하지 않고 메모리의 제목 목록에서 접두어로 찾음
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 개수 (최대 MAX_SUGGEST_SIZE)
+     * @return List<PostSuggestResponse>
+     */
+    public List<PostSuggestResponse> suggest(String prefix, int size) {
+        return postTitleSuggester.suggest(prefix, Math.min(size, MAX_SUGGEST_SIZE));
+    }
+
+    /**
+     * 글 요약 목록 조회
+     * - content 없이 id, 제목, 요약만 조회
+     * @param postSearch
+     * @return List<PostSummaryResponse>
+     */
+    public List<PostSummaryResponse> getSummaryList(PostSearch postSearch) {
+        return postRepository.getSummaryList(postSearch);
+    }
+
+    /**
+     * 글 목록 조회(커서 페이징)
+     * - 마지막 페이지인 경우 nextCursor는 null
+     * @param postSearch
+     * @return PostCursorResponse
+     */
+    public PostCursorResponse getListByCursor(PostSearch postSearch) {
+        long stamp = postViewCounter.readStamp();
+        List<Post> posts = postRepository.getListByCursor(postSearch);
+
+        // limit + 1건을 조회해서 초과분이 있을 때만 다음 페이지가 있음
+        String nextCursor = null;
+        if (posts.size() > postSearch.getLimit()) {
+            posts = posts.subList(0, postSearch.getLimit());
+            nextCursor = PostCursor.encode(posts.get(posts.size() - 1).getId());
+        }
+
+        return PostCursorResponse.builder()
+                .posts(posts.stream()
+                        .map(post -> toResponse(post, stamp))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 전체 글 내보내기
+     * - 한 건씩 읽어서 바로 consumer로 넘기기 때문에 전체 글을 메모리에 올리지 않음
+     * @param consumer
+     */
+    @Transactional(readOnly = true)
+    public void export(Consumer<PostResponse> consumer) {
+        long stamp = postViewCounter.readStamp();
+        try (Stream<Post> posts = postRepository.streamAll()) {
+            posts.map(post -> toResponse(post, stamp))
+                    .forEach(consumer);
+        }
+    }
+
     /**
      * 글 수정
      * @param id
@@ -83,9 +458,27 @@ public class PostService {
      */
     @Transactional
     public void edit(Long id, PostEdit postEdit) {
-        Post post = postRepository.findById(id)
+        edit(id, postEdit, null);
+    }
+
+    /**
+     * 글 수정 (If-Match)
+     * - ifMatch가 있으면 현재 버전의 ETag와 일치할 때만 수정
+     * - 조회 이후 커밋 전에 다른 요청이 먼저 수정한 경우에는 커밋 시점에 낙관적 락 예외 발생
+     * @param id
+     * @param postEdit
+     * @param ifMatch If-Match 헤더 값, 없으면 null
+     */
+    @Transactional
+    public void edit(Long id, PostEdit postEdit, String ifMatch) {
+        // 본문은 바뀐 경우에만 조회/수정 (Post.edit 참고)
+        Post post = postRepository.findWithoutContentById(id)
                 .orElseThrow(PostNotFound::new);
 
+        if (ifMatch != null && !PostETag.matchesMatch(ifMatch, post.getVersion())) {
+            throw new PreconditionFailed();
+        }
+
         /**
          * PostEditor 사용 이유
          * - 필드가 늘어날 경우에 처리하기 어렵기 때문에
@@ -98,6 +491,13 @@ public class PostService {
                 .build();
 
         post.edit(postEditor);
+        afterCommit(() -> {
+            postCache.invalidate(id);
+            // 본문이 없으면(null) 색인된 본문 유지
+            postSearchIndex.put(id, post.getVersion(), post.getTitle(), postEdit.getContent());
+            postTitleSuggester.put(id, post.getTitle());
+            trendingPostRanking.recordEdit(id);
+        });
 //        post.edit(
 //                postEdit.getTitle() != null ? postEdit.getTitle() : post.getTitle(),
 //                postEdit.getContent() != null ? postEdit.getContent() : post.getTitle()
@@ -106,13 +506,98 @@ public class PostService {
 
     /**
      * 글 삭제
+     * - 조회 없이 delete 쿼리 한 번으로 삭제하고, 삭제된 행이 없으면 존재하지 않는 글
      * @param id
      */
+    @Transactional
     public void delete(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(PostNotFound::new);
+        if (postRepository.deletePost(id) == 0) {
+            throw new PostNotFound();
+        }
 
-        postRepository.delete(post);
+        // bulk delete는 PostChangeListener에 잡히지 않음
+        advanceEpochOnCommit();
+        afterCommit(() -> {
+            postCache.invalidate(id);
+            postSearchIndex.remove(id);
+            postTitleSuggester.remove(id);
+            trendingPostRanking.remove(id);
+            postViewCounter.remove(id);
+        });
     }
 
+    /**
+     * 글 일괄 삭제
+     * - 존재하지 않는 글은 무시
+     * @param ids
+     * @return 삭제된 글 개수
+     */
+    @Transactional
+    public long deleteAll(List<Long> ids) {
+        if (ids.size() > MAX_DELETE_SIZE) {
+            throw new InvalidRequest("ids", "한 번에 최대 " + MAX_DELETE_SIZE + "개까지 삭제할 수 있습니다.");
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        long deleted = postRepository.deletePosts(ids);
+        advanceEpochOnCommit();
+        afterCommit(() -> {
+            ids.forEach(postCache::invalidate);
+            ids.forEach(postSearchIndex::remove);
+            ids.forEach(postTitleSuggester::remove);
+            ids.forEach(trendingPostRanking::remove);
+            ids.forEach(postViewCounter::remove);
+        });
+        return deleted;
+    }
+
+    /**
+     * 커밋 직전부터 PostChangeEpoch를 커밋 중으로 표시하고, 커밋(또는 롤백) 후 epoch 증가
+     * - PostChangeListener와 같은 방식 (bulk 쿼리용)
+     */
+    private void advanceEpochOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postChangeEpoch.advance();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean begun;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                postChangeEpoch.beginCommit();
+                begun = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (begun) {
+                    postChangeEpoch.endCommit();
+                } else {
+                    postChangeEpoch.advance();
+                }
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 아니면 바로 실행
+     * - 커밋 전에 캐시를 지우면 그 사이 다른 요청이 수정 전 값을 다시 캐시할 수 있음
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
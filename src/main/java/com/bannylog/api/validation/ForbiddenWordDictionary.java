@@ -0,0 +1,83 @@
+package com.bannylog.api.validation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 금지어 사전
+ * - 한 줄에 금지어 하나, #으로 시작하는 줄과 빈 줄은 무시
+ * - bannylog.forbidden-words.path 파일이 바뀌면 새 오토마톤을 만든 뒤 참조만 교체
+ *   -> 검사 중인 요청은 이전 오토마톤을 그대로 사용하므로 락이 필요 없음
+ * - 경로가 없으면 내장 사전(classpath:forbidden-words.txt) 사용
+ * - 파일을 읽지 못하면 이전 사전을 계속 사용
+ */
+@Slf4j
+@Component
+public class ForbiddenWordDictionary {
+
+    private static final String DEFAULT_RESOURCE = "forbidden-words.txt";
+
+    private final Path path;
+
+    private volatile ForbiddenWordMatcher matcher;
+
+    private long lastModified = Long.MIN_VALUE;
+
+    public ForbiddenWordDictionary(@Value("${bannylog.forbidden-words.path:}") String path) throws IOException {
+        this.path = StringUtils.hasText(path) ? Paths.get(path) : null;
+
+        try (InputStream in = new ClassPathResource(DEFAULT_RESOURCE).getInputStream()) {
+            this.matcher = ForbiddenWordMatcher.of(parse(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .collect(Collectors.toList())));
+        }
+        reloadIfChanged();
+    }
+
+    public ForbiddenWordMatcher current() {
+        return matcher;
+    }
+
+    /**
+     * 파일 수정 시각이 바뀐 경우에만 다시 읽음
+     */
+    @Scheduled(fixedDelayString = "${bannylog.forbidden-words.reload-interval-ms:5000}")
+    public synchronized void reloadIfChanged() {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified == lastModified) {
+                return;
+            }
+
+            ForbiddenWordMatcher loaded = ForbiddenWordMatcher.of(parse(Files.readAllLines(path, StandardCharsets.UTF_8)));
+            matcher = loaded;
+            lastModified = modified;
+            log.info("forbidden words loaded: path={}, words={}", path, loaded.size());
+        } catch (IOException e) {
+            log.warn("forbidden words reload failed, keeping {} words: path={}", matcher.size(), path, e);
+        }
+    }
+
+    private static List<String> parse(List<String> lines) {
+        return lines.stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,216 @@
+package com.bannylog.api.validation;
+
+import com.bannylog.api.exception.InvalidRequest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 금지어 검사 (Aho-Corasick)
+ * - 금지어 전체로 만든 오토마톤으로 글을 한 번만 훑어서 어떤 금지어든 찾음
+ *   -> 금지어 개수와 상관없이 글 길이에 비례하는 시간
+ * - 대소문자 구분 없음
+ * - 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 락 없이 사용 가능
+ */
+public final class ForbiddenWordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] words;
+
+    // 상태별 전이 (keys는 정렬되어 있어서 이진 탐색)
+    private final char[][] keys;
+    private final int[][] targets;
+
+    // 루트 상태의 전이는 문자 -> 상태 표로 바로 찾음 (금지어가 많을수록 루트의 전이가 많아지고, 대부분의 글자는 루트에서 전이함)
+    private final int[] rootTargets;
+
+    // 전이가 없을 때 이동할 상태 (현재까지 읽은 문자열의 가장 긴 접미사 상태)
+    private final int[] fail;
+
+    // 이 상태에서 끝나는 금지어 (실패 링크를 따라가며 끝나는 금지어 포함), 없으면 NONE
+    private final int[] output;
+
+    private ForbiddenWordMatcher(String[] words, char[][] keys, int[][] targets, int[] fail, int[] output) {
+        this.words = words;
+        this.keys = keys;
+        this.targets = targets;
+        this.rootTargets = new int[Character.MAX_VALUE + 1];
+        Arrays.fill(rootTargets, ROOT);
+        for (int i = 0; i < keys[ROOT].length; i++) {
+            rootTargets[keys[ROOT][i]] = targets[ROOT][i];
+        }
+        this.fail = fail;
+        this.output = output;
+    }
+
+    /**
+     * 금지어 목록으로 오토마톤 생성
+     * - 빈 문자열과 공백은 무시
+     */
+    public static ForbiddenWordMatcher of(Collection<String> words) {
+        List<String> normalized = new ArrayList<>();
+        List<Map<Character, Integer>> gotos = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        gotos.add(new TreeMap<>());
+        terminals.add(NONE);
+
+        // 1. 금지어로 트라이 만들기
+        for (String word : words) {
+            String trimmed = word == null ? "" : word.strip().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < trimmed.length(); i++) {
+                Integer next = gotos.get(state).get(trimmed.charAt(i));
+                if (next == null) {
+                    next = gotos.size();
+                    gotos.add(new TreeMap<>());
+                    terminals.add(NONE);
+                    gotos.get(state).put(trimmed.charAt(i), next);
+                }
+                state = next;
+            }
+            if (terminals.get(state) == NONE) {
+                terminals.set(state, normalized.size());
+                normalized.add(trimmed);
+            }
+        }
+
+        int size = gotos.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> transitions = gotos.get(state);
+            keys[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                keys[state][i] = transition.getKey();
+                targets[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        // 2. 너비 우선으로 실패 링크, 출력 채우기 (얕은 상태부터 처리해야 실패 링크 대상이 먼저 계산됨)
+        int[] fail = new int[size];
+        int[] output = new int[size];
+        output[ROOT] = NONE;
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            output[child] = terminals.get(child);
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                char c = keys[state][i];
+                int child = targets[state][i];
+
+                int f = fail[state];
+                while (f != ROOT && next(keys, targets, f, c) == NONE) {
+                    f = fail[f];
+                }
+                int target = next(keys, targets, f, c);
+                fail[child] = target == NONE ? ROOT : target;
+
+                int own = terminals.get(child);
+                output[child] = own != NONE ? own : output[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        return new ForbiddenWordMatcher(normalized.toArray(new String[0]), keys, targets, fail, output);
+    }
+
+    /**
+     * 처음으로 나오는 금지어 찾기
+     * @return 금지어 (소문자), 없으면 null
+     */
+    public String findFirst(String text) {
+        if (text == null || words.length == 0) {
+            return null;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            int next = state == ROOT ? rootTargets[c] : next(keys, targets, state, c);
+            while (next == NONE) {
+                state = fail[state];
+                next = state == ROOT ? rootTargets[c] : next(keys, targets, state, c);
+            }
+            state = next;
+
+            if (output[state] != NONE) {
+                return words[output[state]];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 제목, 내용 금지어 검사
+     * @throws InvalidRequest 금지어가 있는 필드별 메시지
+     */
+    public void validate(String title, String content) {
+        String titleWord = findFirst(title);
+        String contentWord = findFirst(content);
+        if (titleWord == null && contentWord == null) {
+            return;
+        }
+
+        InvalidRequest invalidRequest = new InvalidRequest();
+        if (titleWord != null) {
+            invalidRequest.addValidation("title", "제목에 " + titleWord + objectParticle(titleWord) + " 포함할 수 없습니다.");
+        }
+        if (contentWord != null) {
+            invalidRequest.addValidation("content", "내용에 " + contentWord + objectParticle(contentWord) + " 포함할 수 없습니다.");
+        }
+        throw invalidRequest;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    private static int next(char[][] keys, int[][] targets, int state, char c) {
+        char[] stateKeys = keys[state];
+        int low = 0;
+        int high = stateKeys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (stateKeys[mid] < c) {
+                low = mid + 1;
+            } else if (stateKeys[mid] > c) {
+                high = mid - 1;
+            } else {
+                return targets[state][mid];
+            }
+        }
+        return NONE;
+    }
+
+    // 마지막 글자에 받침이 있으면 "을", 없으면 "를" (한글이 아니면 "을(를)")
+    private static String objectParticle(String word) {
+        char last = word.charAt(word.length() - 1);
+        if (last < '가' || last > '힣') {
+            return "을(를)";
+        }
+        return (last - '가') % 28 == 0 ? "를" : "을";
+    }
+}
@@ -0,0 +1,47 @@
+package com.bannylog.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있을 수도 있는 값으로 조회된다.")
+    void test1() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+
+        // then
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정한 값 근처로 유지된다.")
+    void test2() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long id = 1; id <= 10_000; id++) {
+            filter.put(id);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long id = 10_001; id <= 110_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < 2_000, "falsePositives=" + falsePositives);
+    }
+}
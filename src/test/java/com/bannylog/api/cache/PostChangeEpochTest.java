@@ -0,0 +1,44 @@
+package com.bannylog.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostChangeEpochTest {
+
+    @Test
+    @DisplayName("커밋 중인 변경이 있으면 epoch를 사용할 수 없고, 커밋이 끝나면 증가한 epoch를 사용할 수 있다.")
+    void test1() {
+        // given
+        PostChangeEpoch postChangeEpoch = new PostChangeEpoch();
+        Long before = postChangeEpoch.stable();
+
+        // when
+        postChangeEpoch.beginCommit();
+        Long committing = postChangeEpoch.stable();
+        postChangeEpoch.endCommit();
+
+        // then
+        assertNotNull(before);
+        assertNull(committing);
+        assertEquals(before + 1, postChangeEpoch.stable());
+    }
+
+    @Test
+    @DisplayName("동시에 커밋 중인 변경이 모두 끝나야 epoch를 사용할 수 있다.")
+    void test2() {
+        // given
+        PostChangeEpoch postChangeEpoch = new PostChangeEpoch();
+        postChangeEpoch.beginCommit();
+        postChangeEpoch.beginCommit();
+
+        // when
+        postChangeEpoch.endCommit();
+
+        // then
+        assertNull(postChangeEpoch.stable());
+        postChangeEpoch.endCommit();
+        assertNotNull(postChangeEpoch.stable());
+    }
+}
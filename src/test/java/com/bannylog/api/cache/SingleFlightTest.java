@@ -0,0 +1,100 @@
+package com.bannylog.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int THREADS = 32;
+
+    @Test
+    @DisplayName("같은 key로 동시에 요청하면 loader는 한 번만 실행되고 모두 같은 결과를 받는다.")
+    void test1() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "반짝이";
+        }));
+        loading.await();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < THREADS - 1; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, key -> {
+                loads.incrementAndGet();
+                return "다른 값";
+            })));
+        }
+        // follower들이 진행 중인 조회에 합류할 시간을 줌
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        assertEquals("반짝이", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("반짝이", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("loader가 실패하면 기다리던 요청 모두 예외를 받고, 다음 요청은 다시 loader를 실행한다.")
+    void test2() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, key -> {
+            loading.countDown();
+            await(release);
+            throw new IllegalStateException("DB 오류");
+        }));
+        loading.await();
+        Future<String> follower = executor.submit(() -> singleFlight.execute(1L, key -> "다른 값"));
+        Thread.sleep(200);
+
+        // when
+        release.countDown();
+
+        // then
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        assertInstanceOf(IllegalStateException.class, followerError.getCause());
+
+        assertEquals("반짝이", singleFlight.execute(1L, key -> "반짝이"));
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
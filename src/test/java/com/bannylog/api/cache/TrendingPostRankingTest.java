@@ -0,0 +1,90 @@
+package com.bannylog.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingPostRankingTest {
+
+    @Test
+    @DisplayName("오래된 활동일수록 점수가 줄어들어 최근 활동이 많은 글이 먼저 나온다.")
+    void test1() {
+        // given
+        AtomicLong now = new AtomicLong(0);
+        TrendingPostRanking ranking = new TrendingPostRanking(Duration.ofHours(1), 10, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            ranking.recordView(1L);
+        }
+        ranking.recordView(2L);
+        ranking.refresh();
+
+        // when
+        now.set(Duration.ofHours(2).toMillis());
+        ranking.recordView(2L);
+        ranking.refresh();
+
+        // then
+        List<TrendingPostRanking.Ranked> top = ranking.top(10);
+        assertEquals(List.of(2L, 1L), idsOf(top));
+        assertEquals(1.25, top.get(0).getScore(), 1e-9);
+        assertEquals(0.75, top.get(1).getScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("순위는 capacity개까지만 유지하고, 삭제된 글이 빠지면 남은 글로 채운다.")
+    void test2() {
+        // given
+        AtomicLong now = new AtomicLong(0);
+        TrendingPostRanking ranking = new TrendingPostRanking(Duration.ofHours(1), 2, now::get);
+
+        ranking.recordEdit(1L);
+        for (long id = 2; id <= 3; id++) {
+            for (int i = 0; i < id; i++) {
+                ranking.recordView(id);
+            }
+        }
+        ranking.refresh();
+
+        // when
+        ranking.remove(1L);
+        ranking.refresh();
+
+        // then
+        assertEquals(List.of(3L, 2L), idsOf(ranking.top(10)));
+        assertEquals(List.of(3L), idsOf(ranking.top(1)));
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮겨도 순위와 현재 점수는 그대로 유지된다.")
+    void test3() {
+        // given
+        AtomicLong now = new AtomicLong(0);
+        TrendingPostRanking ranking = new TrendingPostRanking(Duration.ofMinutes(1), 10, now::get);
+        ranking.recordEdit(1L);
+        ranking.recordView(2L);
+        ranking.refresh();
+
+        // when (지수가 MAX_EXPONENT를 넘는 시점)
+        now.set(Duration.ofMinutes(100).toMillis());
+        ranking.recordEdit(2L);
+        ranking.refresh();
+
+        // then
+        List<TrendingPostRanking.Ranked> top = ranking.top(10);
+        assertEquals(List.of(2L), idsOf(top));
+        assertEquals(5.0, top.get(0).getScore(), 1e-9);
+    }
+
+    private static List<Long> idsOf(List<TrendingPostRanking.Ranked> ranked) {
+        return ranked.stream()
+                .map(TrendingPostRanking.Ranked::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -67,7 +67,8 @@ public class PostControllerDocTest {
                         responseFields(
                                     fieldWithPath("id").description("게시글 ID"),
                                     fieldWithPath("title").description("제목"),
-                                    fieldWithPath("content").description("내용")
+                                    fieldWithPath("content").description("내용"),
+                                    fieldWithPath("viewCount").description("조회수 (아직 DB에 반영되지 않은 조회수 포함)")
                                 )
                         ));
     }
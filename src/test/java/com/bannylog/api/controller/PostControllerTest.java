@@ -1,9 +1,13 @@
 package com.bannylog.api.controller;
 
+import com.bannylog.api.cache.TrendingPostRanking;
 import com.bannylog.api.domain.Post;
 import com.bannylog.api.repository.PostRepository;
 import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.request.PostCreateBatch;
 import com.bannylog.api.request.PostEdit;
+import com.bannylog.api.request.PostLookup;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,16 +16,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.bannylog.api.support.QueryCountMatchers.queryCount;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -38,6 +50,9 @@ class PostControllerTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private TrendingPostRanking trendingPostRanking;
+
     /**
      * 매 테스트 시 실행되는 함수 정의
      */
@@ -283,4 +298,797 @@ class PostControllerTest {
                 .andExpect(status().isBadRequest())
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 페이징으로 글 목록을 조회하면 다음 커서가 함께 응답된다.")
+    void test12() throws Exception {
+        // given
+        List<Post> requestPosts = IntStream.range(1, 20)
+                .mapToObj(i -> Post.builder()
+                        .title("반삭이 제목 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+
+        postRepository.saveAll(requestPosts);
+
+        // expected
+        mockMvc.perform(get("/posts?cursor=&size=10")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(10))
+                .andExpect(jsonPath("$.posts[0].title").value("반삭이 제목 19"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 400을 응답한다.")
+    void test13() throws Exception {
+        // expected
+        mockMvc.perform(get("/posts?cursor=!!&size=10")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.cursor").value("잘못된 커서입니다."))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 요약 목록 조회 시 content는 응답하지 않는다.")
+    void test14() throws Exception {
+        // given
+        List<Post> requestPosts = IntStream.range(1, 20)
+                .mapToObj(i -> Post.builder()
+                        .title("반삭이 제목 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+
+        postRepository.saveAll(requestPosts);
+
+        // expected
+        mockMvc.perform(get("/posts/summaries?page=1&size=10")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(jsonPath("$[0].title").value("반삭이 제목 19"))
+                .andExpect(jsonPath("$[0].excerpt").value("낙성대 19"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/batch 요청 시 여러 글이 한 번에 저장된다.")
+    void test15() throws Exception {
+        // given
+        List<PostCreate> posts = IntStream.range(0, 30)
+                .mapToObj(i -> PostCreate.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+
+        PostCreateBatch request = PostCreateBatch.builder()
+                .posts(posts)
+                .build();
+
+        // when
+        mockMvc.perform(post("/posts/batch")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        assertEquals(30L, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("/posts/batch 요청 시 하나라도 잘못된 글이 있으면 저장되지 않는다.")
+    void test16() throws Exception {
+        // given
+        PostCreateBatch request = PostCreateBatch.builder()
+                .posts(List.of(
+                        PostCreate.builder().title("반짝이").content("낙성대").build(),
+                        PostCreate.builder().title("나는 바보입니다.").content("낙성대").build()))
+                .build();
+
+        // when
+        mockMvc.perform(post("/posts/batch")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation['posts[1].title']").value("제목에 바보를 포함할 수 없습니다."))
+                .andDo(print());
+
+        // then
+        assertEquals(0L, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 삭제")
+    void test17() throws Exception {
+        // given
+        List<Post> posts = IntStream.range(0, 3)
+                .mapToObj(i -> Post.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        // when
+        mockMvc.perform(delete("/posts")
+                        .param("ids", posts.get(0).getId() + "," + posts.get(1).getId())
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        // then
+        assertEquals(1L, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("전체 글 내보내기 시 글 하나당 한 줄의 JSON으로 응답한다.")
+    void test18() throws Exception {
+        // given
+        List<Post> requestPosts = IntStream.range(1, 20)
+                .mapToObj(i -> Post.builder()
+                        .title("반삭이 제목 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(19, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("반삭이 제목 1", first.get("title").asText());
+        assertEquals("낙성대 1", first.get("content").asText());
+    }
+
+    @Test
+    @DisplayName("NDJSON 글 가져오기 시 잘못된 행은 건너뛰고 나머지는 저장된다.")
+    void test19() throws Exception {
+        // given
+        String ndjson = "{\"title\": \"반짝이\", \"content\": \"낙성대\"}\n"
+                + "{\"title\": \"\", \"content\": \"낙성대\"}\n"
+                + "\n"
+                + "{\"title\": \"나는 바보입니다.\", \"content\": \"낙성대\"}\n"
+                + "{이상한 줄\n"
+                + "{\"title\": \"지워니\", \"content\": \"아파트\"}\n";
+
+        // expected
+        mockMvc.perform(post("/posts/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].record").value(2))
+                .andExpect(jsonPath("$.errors[0].validation.title").value("타이틀을 입력해주세요."))
+                .andExpect(jsonPath("$.errors[1].record").value(4))
+                .andExpect(jsonPath("$.errors[2].record").value(5))
+                .andDo(print());
+
+        assertEquals(2L, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("CSV 글 가져오기 시 따옴표로 감싼 쉼표와 줄바꿈이 유지된다.")
+    void test20() throws Exception {
+        // given
+        String csv = "content,title\r\n"
+                + "낙성대,반짝이\r\n"
+                + "\"여러 줄\n\"\"내용\"\"\",\"제목, 쉼표\"\r\n";
+
+        // when
+        mockMvc.perform(post("/posts/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andDo(print());
+
+        // then
+        List<Post> posts = postRepository.findAll();
+        assertEquals(2, posts.size());
+        assertTrue(posts.stream().anyMatch(post -> post.getTitle().equals("제목, 쉼표")
+                && post.getContent().equals("여러 줄\n\"내용\"")));
+    }
+
+    @Test
+    @DisplayName("내부 지표 조회 시 상태 코드별 예외 횟수와 메서드별 응답 시간이 집계된다.")
+    void test21() throws Exception {
+        // given
+        mockMvc.perform(get("/internal/metrics").param("reset", "true"))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(get("/posts/{postId}", 1L))
+                .andExpect(status().isNotFound());
+
+        // expected
+        mockMvc.perform(get("/internal/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCodes.404").value(1))
+                .andExpect(jsonPath("$.methods['PostController.get'].count").value(1))
+                .andExpect(jsonPath("$.methods['PostController.get'].errors").value(1))
+                .andExpect(jsonPath("$.methods['PostService.get'].count").value(1))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 조회 시 SQL은 단건 1번, 캐시된 단건 0번, 목록 1번 실행된다.")
+    void test22() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // expected
+        mockMvc.perform(get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+
+        mockMvc.perform(get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+
+        mockMvc.perform(get("/posts?page=1&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    @DisplayName("글 수정 시 SQL은 제목만 바뀌면 2번, 본문이 바뀌면 4번, 삭제 시 글과 본문 delete 2번 실행된다.")
+    void test23() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // 본문을 보내지 않으면 본문은 조회/수정하지 않음 (글 조회 + 글 수정)
+        PostEdit titleEdit = PostEdit.builder()
+                .title("반짝이 수정")
+                .build();
+
+        // 본문이 같아도 본문은 조회/수정하지 않음 (글 조회)
+        PostEdit sameContentEdit = PostEdit.builder()
+                .title("반짝이 수정")
+                .content("낙성대")
+                .build();
+
+        // 본문이 바뀌면 글 조회 + 본문 조회 + 글 수정 + 본문 수정
+        PostEdit contentEdit = PostEdit.builder()
+                .title("반짝이 수정")
+                .content("낙성대 수정")
+                .build();
+
+        // expected
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(titleEdit)))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sameContentEdit)))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(contentEdit)))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(4));
+
+        mockMvc.perform(delete("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    @DisplayName("응답에는 구간별 처리 시간이 Server-Timing 헤더로 포함된다.")
+    void test24() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // expected
+        mockMvc.perform(get("/posts?page=1&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", containsString("controller;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("service;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("db;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("serialization;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("total;dur=")))
+                .andDo(print());
+
+        mockMvc.perform(delete("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", containsString("db;dur=")));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 시 ETag가 같으면 content 조회 없이 304를 응답한다.")
+    void test25() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // expected
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"0\""))
+                .andExpect(content().string(""))
+                .andExpect(queryCount(1))
+                .andDo(print());
+
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .header("If-None-Match", "\"5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"0\""))
+                .andExpect(jsonPath("$.content").value("낙성대"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("글 수정 시 If-Match가 현재 ETag와 다르면 412를 응답한다.")
+    void test26() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        String json = objectMapper.writeValueAsString(PostEdit.builder()
+                .title("반짝이 수정")
+                .content("낙성대")
+                .build());
+
+        // when
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .header("If-Match", "\"0\"")
+                        .content(json))
+                .andExpect(status().isOk());
+
+        // expected
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .header("If-Match", "\"0\"")
+                        .content(json))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("412"))
+                .andDo(print());
+
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1\""))
+                .andExpect(jsonPath("$.title").value("반짝이 수정"));
+
+        // 조회 응답의 weak ETag를 그대로 보내도 버전으로 비교
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .header("If-Match", "W/\"1\"")
+                        .content(json))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("글 목록 조회 시 글 변경이 없으면 목록 조회 없이 304를 응답한다.")
+    void test27() throws Exception {
+        // given
+        postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        String eTag = mockMvc.perform(get("/posts?page=1&size=10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // expected
+        mockMvc.perform(get("/posts?page=1&size=10")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(queryCount(0))
+                .andDo(print());
+
+        // 다른 페이지는 다른 ETag
+        mockMvc.perform(get("/posts?page=2&size=10")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+
+        // when
+        postRepository.save(Post.builder()
+                .title("지워니")
+                .content("서울대입구")
+                .build());
+
+        // then
+        mockMvc.perform(get("/posts?page=1&size=10")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("글 여러 건 조회 시 IN 쿼리 한 번으로 요청한 순서대로 조회하고 없는 글은 따로 응답한다.")
+    void test28() throws Exception {
+        // given
+        List<Post> posts = postRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> Post.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList()));
+        Long missingId = posts.get(2).getId() + 1_000_000L;
+
+        // expected
+        mockMvc.perform(get("/posts")
+                        .param("ids", posts.get(2).getId() + "," + missingId + "," + posts.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(2))
+                .andExpect(jsonPath("$.posts[0].id").value(posts.get(2).getId()))
+                .andExpect(jsonPath("$.posts[1].id").value(posts.get(0).getId()))
+                .andExpect(jsonPath("$.missingIds[0]").value(missingId))
+                .andExpect(queryCount(1))
+                .andDo(print());
+
+        // 캐시된 글은 다시 조회하지 않음
+        PostLookup request = PostLookup.builder()
+                .ids(List.of(posts.get(0).getId(), posts.get(1).getId(), posts.get(2).getId()))
+                .build();
+
+        mockMvc.perform(post("/posts/lookup")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(3))
+                .andExpect(jsonPath("$.posts[1].title").value("반짝이 1"))
+                .andExpect(jsonPath("$.missingIds.length()").value(0))
+                .andExpect(queryCount(1))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("fields로 필드를 선택하면 선택한 필드만 응답한다.")
+    void test29() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // expected
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(post.getId()))
+                .andExpect(jsonPath("$.title").value("반짝이"))
+                .andExpect(jsonPath("$.content").doesNotExist())
+                .andExpect(header().string("ETag", "W/\"0-id.title\""))
+                .andExpect(queryCount(1))
+                .andDo(print());
+
+        mockMvc.perform(get("/posts?page=1&size=10&fields=title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("반짝이"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andDo(print());
+
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.fields").value("선택할 수 없는 필드입니다: password"));
+    }
+
+    @Test
+    @DisplayName("검색어로 글 목록을 조회하면 찾은 글만 IN 쿼리 한 번으로 조회한다.")
+    void test30() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            PostCreate request = PostCreate.builder()
+                    .title("사당역 " + i)
+                    .content("이수역 근처 " + i)
+                    .build();
+
+            mockMvc.perform(post("/posts")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+        }
+
+        // expected
+        mockMvc.perform(get("/posts?keyword=사당역 이수&size=2&fields=id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("사당역 2"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(queryCount(1))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("제목 자동완성은 DB를 조회하지 않고 접두어로 시작하는 제목을 응답한다.")
+    void test31() throws Exception {
+        // given
+        PostCreate request = PostCreate.builder()
+                .title("방배동 산책로 기록")
+                .content("반포천")
+                .build();
+
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // expected
+        mockMvc.perform(get("/posts/suggest")
+                        .param("prefix", "방배동 산"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("방배동 산책로 기록"))
+                .andExpect(queryCount(0))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 작성/수정 시 내용에도 금지어를 포함할 수 없다.")
+    void test32() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        PostCreate create = PostCreate.builder()
+                .title("반짝이")
+                .content("나는 바보입니다.")
+                .build();
+
+        PostEdit edit = PostEdit.builder()
+                .title("바보 반짝이")
+                .content("낙성대")
+                .build();
+
+        // expected
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(create)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.content").value("내용에 바보를 포함할 수 없습니다."))
+                .andDo(print());
+
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(edit)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.title").value("제목에 바보를 포함할 수 없습니다."))
+                .andDo(print());
+
+        assertEquals(1L, postRepository.count());
+        assertEquals("반짝이", postRepository.findAll().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("글을 조회할 때마다 조회수가 올라가고, 304 응답도 조회수에 포함된다.")
+    void test33() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // expected
+        mockMvc.perform(get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(0));
+
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(2))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("인기 글은 DB를 조회하지 않고 메모리의 순위로 응답한다.")
+    void test34() throws Exception {
+        // given
+        PostCreate request = PostCreate.builder()
+                .title("서초동 인기 글")
+                .content("반포대교")
+                .build();
+
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        Long postId = postRepository.findAll().get(0).getId();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/posts/{postId}", postId))
+                    .andExpect(status().isOk());
+        }
+        trendingPostRanking.refresh();
+
+        // expected
+        mockMvc.perform(get("/posts/trending")
+                        .param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItem(postId.intValue())))
+                .andExpect(jsonPath("$[*].title", hasItem("서초동 인기 글")))
+                .andExpect(queryCount(0))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 여러 건 조회 시 비어 있는 ID가 있으면 400을 응답한다.")
+    void test35() throws Exception {
+        // expected
+        mockMvc.perform(get("/posts")
+                        .param("ids", "1,,2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.ids").value("글 ID를 입력해주세요."))
+                .andDo(print());
+
+        mockMvc.perform(post("/posts/lookup")
+                        .contentType(APPLICATION_JSON)
+                        .content("{\"ids\": [1, null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation['ids[1]']").value("글 ID를 입력해주세요."))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 수정 시 본문은 생략할 수 있지만 공백만 보내면 400을 응답한다.")
+    void test36() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        PostEdit blankEdit = PostEdit.builder()
+                .title("반짝이 수정")
+                .content("  ")
+                .build();
+
+        // expected
+        mockMvc.perform(patch("/posts/{postId}", post.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(blankEdit)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validation.content").value("컨텐츠를 입력해주세요."))
+                .andDo(print());
+
+        assertEquals("반짝이", postRepository.findById(post.getId()).get().getTitle());
+    }
+
+    @Test
+    @DisplayName("NDJSON 글 가져오기 시 null이나 객체가 아닌 행은 거부하고 다음 행을 계속 읽는다.")
+    void test37() throws Exception {
+        // given
+        String ndjson = "null\n"
+                + "{\"title\": \"반짝이\", \"content\": \"낙성대\"}\n"
+                + "[1, 2]\n"
+                + "\"반짝이\"\n"
+                + "{\"title\": \"지워니\", \"content\": \"아파트\"}\n";
+
+        // expected
+        mockMvc.perform(post("/posts/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].record").value(1))
+                .andExpect(jsonPath("$.errors[0].validation.json").value("JSON 객체가 아닙니다."))
+                .andExpect(jsonPath("$.errors[1].record").value(3))
+                .andExpect(jsonPath("$.errors[2].record").value(4))
+                .andDo(print());
+
+        assertEquals(2L, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("인기 글 조회 시 size가 0 이하면 빈 목록을 응답한다.")
+    void test38() throws Exception {
+        // expected
+        mockMvc.perform(get("/posts/trending")
+                        .param("size", "-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0))
+                .andDo(print());
+
+        mockMvc.perform(get("/posts/trending")
+                        .param("size", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("body 없이 먼저 커밋되는 304 응답과 버퍼보다 큰 응답에도 Server-Timing 헤더가 포함된다.")
+    void test39() throws Exception {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+        postRepository.saveAll(IntStream.range(0, 100)
+                .mapToObj(i -> Post.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대".repeat(300))
+                        .build())
+                .collect(Collectors.toList()));
+
+        // expected
+        mockMvc.perform(get("/posts/{postId}", post.getId())
+                        .header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Server-Timing", containsString("total;dur=")));
+
+        mockMvc.perform(get("/posts?page=1&size=101"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(101))
+                .andExpect(header().string("Server-Timing", containsString("serialization;dur=")));
+    }
+
+    @Test
+    @DisplayName("컨트롤러 실행 전에 요청 본문 검증에 실패한 400 응답도 지표에 집계된다.")
+    void test40() throws Exception {
+        // given
+        mockMvc.perform(get("/internal/metrics").param("reset", "true"))
+                .andExpect(status().isOk());
+
+        PostCreate request = PostCreate.builder()
+                .content("내용입니다.")
+                .build();
+
+        // when
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        // expected
+        mockMvc.perform(get("/internal/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errors").value(1))
+                .andExpect(jsonPath("$.statusCodes.400").value(1))
+                .andDo(print());
+    }
+}
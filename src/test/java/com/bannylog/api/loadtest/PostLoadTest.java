@@ -0,0 +1,266 @@
+package com.bannylog.api.loadtest;
+
+import com.bannylog.api.domain.QPost;
+import com.bannylog.api.repository.PostRepository;
+import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HTTP 부하 테스트
+ * - 실제 서블릿 컨테이너(랜덤 포트)를 띄우고 H2(bannylog) 메모리 DB에 글을 미리 넣은 뒤
+ *   조회/목록/작성 요청을 섞어서 지정한 동시성으로 호출
+ * - 엔드포인트별 처리량과 p50/p95/p99 응답 시간을 출력하고 build/reports/loadtest/result.json에 저장
+ * - 일반 test 태스크에서는 제외되고 ./gradlew loadTest 로만 실행
+ *
+ * ./gradlew loadTest -Ploadtest.posts=10000 -Ploadtest.concurrency=32 -Ploadtest.duration=30 -Ploadtest.mix=80,15,5
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PostLoadTest {
+
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    private final int posts = Integer.getInteger("loadtest.posts", 10_000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup", 5);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 20);
+    // 조회, 목록, 작성 비율 (%)
+    private final int[] mix = Arrays.stream(System.getProperty("loadtest.mix", "80,15,5").split(","))
+            .mapToInt(value -> Integer.parseInt(value.trim()))
+            .toArray();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("조회/목록/작성 혼합 부하")
+    void mixedWorkload() throws Exception {
+        // given
+        postRepository.deleteAll();
+        long seedStart = System.nanoTime();
+        seed(posts);
+        long seedMillis = (System.nanoTime() - seedStart) / 1_000_000;
+        List<Long> ids = jpaQueryFactory.select(QPost.post.id)
+                .from(QPost.post)
+                .fetch();
+        System.out.printf("seed: %d posts in %d ms%n", ids.size(), seedMillis);
+
+        // when
+        run(ids, warmupSeconds);
+        List<Recorder> recorders = run(ids, durationSeconds);
+
+        // then
+        Map<String, Map<String, Object>> report = report(recorders);
+        Path output = Paths.get("build", "reports", "loadtest", "result.json");
+        Files.createDirectories(output.getParent());
+        Files.write(output, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(report));
+
+        long total = recorders.stream().mapToLong(Recorder::count).sum();
+        assertTrue(total > 0, "요청이 한 번도 수행되지 않았습니다.");
+    }
+
+    private void seed(int count) {
+        for (int from = 0; from < count; from += SEED_CHUNK_SIZE) {
+            List<PostCreate> chunk = IntStream.range(from, Math.min(count, from + SEED_CHUNK_SIZE))
+                    .mapToObj(this::postCreate)
+                    .collect(Collectors.toList());
+            postService.writeAll(chunk);
+        }
+    }
+
+    private List<Recorder> run(List<Long> ids, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> work(ids, deadline)));
+        }
+
+        List<Recorder> recorders = new ArrayList<>();
+        for (Future<Recorder> future : futures) {
+            recorders.add(future.get());
+        }
+        executor.shutdown();
+        return recorders;
+    }
+
+    // 워커 한 개: 마감 시간까지 비율에 맞춰 요청을 보내고 엔드포인트별 응답 시간을 기록
+    private Recorder work(List<Long> ids, long deadline) throws Exception {
+        Recorder recorder = new Recorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pages = Math.max(1, ids.size() / 10);
+
+        while (System.nanoTime() < deadline) {
+            int dice = random.nextInt(100);
+            if (dice < mix[0]) {
+                Long id = ids.get(random.nextInt(ids.size()));
+                send(recorder, "GET /posts/{postId}", get("/posts/" + id));
+            } else if (dice < mix[0] + mix[1]) {
+                int page = 1 + random.nextInt(Math.min(pages, 100));
+                send(recorder, "GET /posts", get("/posts?page=" + page + "&size=10"));
+            } else {
+                byte[] body = objectMapper.writeValueAsBytes(postCreate(random.nextInt()));
+                send(recorder, "POST /posts", HttpRequest.newBuilder(uri("/posts"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build());
+            }
+        }
+        return recorder;
+    }
+
+    private void send(Recorder recorder, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() < 400;
+        } catch (Exception e) {
+            ok = false;
+        }
+        recorder.record(endpoint, System.nanoTime() - start, ok);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private PostCreate postCreate(int i) {
+        return PostCreate.builder()
+                .title("부하 테스트 " + i)
+                .content("낙성대 반짝이의 글 ".repeat(50) + i)
+                .build();
+    }
+
+    private Map<String, Map<String, Object>> report(List<Recorder> recorders) {
+        Map<String, List<long[]>> latencies = new LinkedHashMap<>();
+        Map<String, Long> errors = new LinkedHashMap<>();
+        for (Recorder recorder : recorders) {
+            recorder.latencies.forEach((endpoint, values) ->
+                    latencies.computeIfAbsent(endpoint, key -> new ArrayList<>()).add(values.toArray()));
+            recorder.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Long::sum));
+        }
+
+        Map<String, Map<String, Object>> report = new LinkedHashMap<>();
+        System.out.printf("%-22s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        latencies.forEach((endpoint, parts) -> {
+            long[] values = parts.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            double throughput = (double) values.length / durationSeconds;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", values.length);
+            row.put("errors", errors.getOrDefault(endpoint, 0L));
+            row.put("throughput", throughput);
+            row.put("p50Ms", percentile(values, 0.50));
+            row.put("p95Ms", percentile(values, 0.95));
+            row.put("p99Ms", percentile(values, 0.99));
+            row.put("maxMs", millis(values[values.length - 1]));
+            report.put(endpoint, row);
+
+            System.out.printf("%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, values.length, errors.getOrDefault(endpoint, 0L), throughput,
+                    percentile(values, 0.50), percentile(values, 0.95), percentile(values, 0.99),
+                    millis(values[values.length - 1]));
+        });
+        return report;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return millis(sorted[Math.max(0, index)]);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 워커 스레드 하나의 기록 (스레드 간 공유하지 않으므로 동기화 불필요)
+     */
+    private static class Recorder {
+
+        private final Map<String, LongList> latencies = new LinkedHashMap<>();
+        private final Map<String, Long> errors = new LinkedHashMap<>();
+
+        private void record(String endpoint, long nanos, boolean ok) {
+            latencies.computeIfAbsent(endpoint, key -> new LongList()).add(nanos);
+            if (!ok) {
+                errors.merge(endpoint, 1L, Long::sum);
+            }
+        }
+
+        private long count() {
+            return latencies.values().stream().mapToLong(list -> list.size).sum();
+        }
+    }
+
+    private static class LongList {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bannylog.api.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 실제 값보다 작지 않고 12.5% 이내로 크다.")
+    void test1() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        // then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000L, snapshot.getCount());
+        assertEquals(1000.0, snapshot.getMaxMillis());
+        assertEquals(500.5, snapshot.getMeanMillis(), 0.001);
+
+        double p50 = snapshot.percentileMillis(50);
+        assertTrue(p50 >= 500 && p50 <= 500 * 1.125);
+
+        double p99 = snapshot.percentileMillis(99);
+        assertTrue(p99 >= 990 && p99 <= 1000);
+    }
+
+    @Test
+    @DisplayName("초기화하면 기록이 모두 사라진다.")
+    void test2() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000_000L);
+
+        // when
+        histogram.reset();
+
+        // then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0L, snapshot.getCount());
+        assertEquals(0.0, snapshot.percentileMillis(99));
+        assertEquals(0.0, snapshot.getMaxMillis());
+    }
+}
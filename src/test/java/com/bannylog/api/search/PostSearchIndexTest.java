@@ -0,0 +1,59 @@
+package com.bannylog.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    @Test
+    @DisplayName("한글은 두 글자씩, 영문/숫자는 단어 단위로 토큰을 나눈다.")
+    void test1() {
+        // when
+        List<String> tokens = PostTokenizer.tokenize("낙성대에서 Spring Boot3, 밥!");
+
+        // then
+        assertEquals(List.of("낙성", "성대", "대에", "에서", "spring", "boot3", "밥"), tokens);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 글만 점수 순으로 검색되고, 제목에 나온 글이 먼저 나온다.")
+    void test2() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(null, null);
+        index.put(1L, 0L, "오늘 점심", "낙성대 근처 식당");
+        index.put(2L, 0L, "낙성대 맛집", "점심 메뉴");
+        index.put(3L, 0L, "서울대", "성대 앞");
+
+        // when
+        List<Long> ids = index.search("낙성대", 0, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), ids);
+        assertEquals(List.of(1L), index.search("낙성대", 1, 10));
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 이전 토큰은 지워지고, 본문 없이 다시 색인하면 기존 본문은 유지된다.")
+    void test3() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(null, null);
+        index.put(1L, 0L, "반짝이", "낙성대");
+
+        // when
+        index.put(1L, 1L, "지워니", null);
+        index.put(1L, 0L, "오래된 제목", "오래된 본문");
+
+        // then
+        assertEquals(List.of(), index.search("반짝이", 0, 10));
+        assertEquals(List.of(1L), index.search("지워니 낙성대", 0, 10));
+        assertEquals(List.of(), index.search("오래된", 0, 10));
+
+        index.remove(1L);
+        assertEquals(List.of(), index.search("지워니", 0, 10));
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,55 @@
+package com.bannylog.api.search;
+
+import com.bannylog.api.response.PostSuggestResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostTitleSuggesterTest {
+
+    @Test
+    @DisplayName("접두어로 시작하는 제목을 정렬 순서대로 최대 size개 조회하고, 입력 중인 글자(자음, 받침 없는 글자)도 접두어로 인식한다.")
+    void test1() {
+        // given
+        PostTitleSuggester suggester = new PostTitleSuggester(null, null);
+        suggester.put(1L, "낙성대 맛집");
+        suggester.put(2L, "낙성대");
+        suggester.put(3L, "낙서장");
+        suggester.put(4L, "서울대");
+
+        // expected
+        assertEquals(List.of(2L, 1L), idsOf(suggester.suggest("낙성", 10)));
+        assertEquals(List.of(3L, 2L, 1L), idsOf(suggester.suggest("낙ㅅ", 10)));
+        assertEquals(List.of(3L, 2L, 1L), idsOf(suggester.suggest("낙서", 10)));
+        assertEquals(List.of(3L, 2L), idsOf(suggester.suggest("낙", 2)));
+        assertEquals(List.of(), idsOf(suggester.suggest(" ", 10)));
+    }
+
+    @Test
+    @DisplayName("제목을 수정하거나 글을 삭제하면 이전 제목은 더 이상 조회되지 않는다.")
+    void test2() {
+        // given
+        PostTitleSuggester suggester = new PostTitleSuggester(null, null);
+        suggester.put(1L, "Spring Boot");
+        suggester.put(2L, "Spring Data");
+
+        // when
+        suggester.put(1L, "JPA 기초");
+        suggester.remove(2L);
+
+        // then
+        assertEquals(List.of(), idsOf(suggester.suggest("spring", 10)));
+        assertEquals("JPA 기초", suggester.suggest("jpa", 10).get(0).getTitle());
+        assertEquals(1, suggester.size());
+    }
+
+    private static List<Long> idsOf(List<PostSuggestResponse> suggestions) {
+        return suggestions.stream()
+                .map(PostSuggestResponse::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package com.bannylog.api.service;
+
+import com.bannylog.api.domain.Post;
+import com.bannylog.api.repository.PostRepository;
+import com.bannylog.api.response.PostResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 글을 동시에 여러 번 조회해도 SELECT는 한 번만 실행된다.")
+    void test1() throws Exception {
+        // given
+        Post post = Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build();
+        postRepository.save(post);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<PostResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            responses.add(executor.submit(() -> {
+                start.await();
+                return postService.get(post.getId());
+            }));
+        }
+
+        // when
+        start.countDown();
+
+        // then
+        for (Future<PostResponse> response : responses) {
+            assertEquals("반짝이", response.get(5, TimeUnit.SECONDS).getTitle());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+        executor.shutdown();
+    }
+}
@@ -1,12 +1,19 @@
 package com.bannylog.api.service;
 
+import com.bannylog.api.cache.CacheStats;
+import com.bannylog.api.cache.PostCache;
+import com.bannylog.api.cache.PostListCache;
+import com.bannylog.api.cache.PostViewCounter;
 import com.bannylog.api.domain.Post;
 import com.bannylog.api.exception.PostNotFound;
 import com.bannylog.api.repository.PostRepository;
 import com.bannylog.api.request.PostCreate;
+import com.bannylog.api.request.PostCursor;
 import com.bannylog.api.request.PostEdit;
 import com.bannylog.api.request.PostSearch;
+import com.bannylog.api.response.PostCursorResponse;
 import com.bannylog.api.response.PostResponse;
+import com.bannylog.api.response.PostSummaryResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +35,15 @@ class PostServiceTest  {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
     @BeforeEach
     void clean() {
         postRepository.deleteAll();
@@ -244,5 +260,523 @@ class PostServiceTest  {
         assertEquals("아파트", changePost.getContent());
     }
 
+    @Test
+    @DisplayName("글 커서 페이징 조회")
+    void test11() {
+        // given
+        List<Post> requestPosts = IntStream.range(1, 20)
+                .mapToObj(i -> Post.builder()
+                        .title("반삭이 제목 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        PostSearch firstPage = PostSearch.builder()
+                .size(10)
+                .cursor("")
+                .build();
+
+        // when
+        PostCursorResponse first = postService.getListByCursor(firstPage);
+
+        PostSearch secondPage = PostSearch.builder()
+                .size(10)
+                .cursor(first.getNextCursor())
+                .build();
+        PostCursorResponse second = postService.getListByCursor(secondPage);
+
+        // then
+        assertEquals(10, first.getPosts().size());
+        assertEquals("반삭이 제목 19", first.getPosts().get(0).getTitle());
+        assertNotNull(first.getNextCursor());
+
+        assertEquals(9, second.getPosts().size());
+        assertEquals("반삭이 제목 9", second.getPosts().get(0).getTitle());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 페이징으로 뒤쪽 페이지를 조회하면 커서 다음 글부터 조회된다.")
+    void test12() {
+        // given
+        List<Post> requestPosts = IntStream.range(0, 5000)
+                .mapToObj(i -> Post.builder()
+                        .title("제목 " + i)
+                        .content("내용 " + i)
+                        .build())
+                .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        // id 내림차순 기준 마지막 페이지 직전 커서 (offset 방식이면 page 499에 해당)
+        Long deepLastSeenId = requestPosts.get(10).getId();
+
+        PostSearch deepPage = PostSearch.builder()
+                .size(10)
+                .cursor(PostCursor.encode(deepLastSeenId))
+                .build();
+
+        // when
+        PostCursorResponse deep = postService.getListByCursor(deepPage);
+
+        // then
+        assertEquals(10, deep.getPosts().size());
+        assertEquals(requestPosts.get(9).getId(), deep.getPosts().get(0).getId());
+        assertEquals(requestPosts.get(0).getId(), deep.getPosts().get(9).getId());
+        assertNull(deep.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("글 요약 목록 조회 - 본문 대신 요약만 조회된다.")
+    void test13() {
+        // given
+        String longContent = "낙성대".repeat(1000);
+        postService.write(PostCreate.builder()
+                .title("반짝이")
+                .content(longContent)
+                .build());
+
+        PostSearch postSearch = PostSearch.builder()
+                .page(1)
+                .build();
+
+        // when
+        List<PostSummaryResponse> summaries = postService.getSummaryList(postSearch);
+
+        // then
+        assertEquals(1, summaries.size());
+        assertEquals("반짝이", summaries.get(0).getTitle());
+        assertEquals(Post.EXCERPT_LENGTH, summaries.get(0).getExcerpt().length());
+        assertTrue(longContent.startsWith(summaries.get(0).getExcerpt()));
+    }
+
+    @Test
+    @DisplayName("글 1개 조회 - 두 번째 조회부터는 캐시에서 조회된다.")
+    void test14() {
+        // given
+        Post post = Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build();
+        postRepository.save(post);
+        CacheStats before = postCache.stats();
+
+        // when
+        postService.get(post.getId());
+        postService.get(post.getId());
+
+        // then
+        CacheStats after = postCache.stats();
+        assertEquals(1, after.getMisses() - before.getMisses());
+        assertEquals(1, after.getHits() - before.getHits());
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("글 수정 후 조회하면 수정된 글이 조회된다.")
+    void test15() {
+        // given
+        Post post = Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build();
+        postRepository.save(post);
+        postService.get(post.getId());
+
+        PostEdit postEdit = PostEdit.builder()
+                .title("반속반속")
+                .content("아파트")
+                .build();
+
+        // when
+        postService.edit(post.getId(), postEdit);
+
+        // then
+        PostResponse response = postService.get(post.getId());
+        assertEquals("반속반속", response.getTitle());
+        assertEquals("아파트", response.getContent());
+    }
+
+    @Test
+    @DisplayName("글 일괄 작성")
+    void test16() {
+        // given
+        List<PostCreate> postCreates = IntStream.range(0, 120)
+                .mapToObj(i -> PostCreate.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+
+        // when
+        postService.writeAll(postCreates);
+
+        // then
+        assertEquals(120L, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 삭제 - 존재하지 않는 글은 무시된다.")
+    void test17() {
+        // given
+        List<Post> posts = IntStream.range(0, 3)
+                .mapToObj(i -> Post.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+        postRepository.saveAll(posts);
+
+        List<Long> ids = List.of(posts.get(0).getId(), posts.get(1).getId(), posts.get(2).getId() + 100L);
+
+        // when
+        long deleted = postService.deleteAll(ids);
+
+        // then
+        assertEquals(2L, deleted);
+        assertEquals(1L, postRepository.count());
+        assertEquals(posts.get(2).getId(), postRepository.findAll().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("같은 목록 페이지를 다시 조회하면 캐시된 목록을 사용한다.")
+    void test18() {
+        // given
+        postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        PostSearch postSearch = PostSearch.builder()
+                .page(1)
+                .size(10)
+                .build();
+        CacheStats before = postListCache.stats();
+
+        // when
+        List<PostResponse> first = postService.getList(postSearch);
+        List<PostResponse> second = postService.getList(postSearch);
+
+        // then
+        CacheStats after = postListCache.stats();
+        assertEquals(1, after.getMisses() - before.getMisses());
+        assertEquals(1, after.getHits() - before.getHits());
+        assertEquals(first.get(0).getId(), second.get(0).getId());
+        assertThrows(UnsupportedOperationException.class, () -> second.add(null));
+    }
+
+    @Test
+    @DisplayName("글 작성, 수정, 삭제 후 목록을 조회하면 바로 반영된 목록이 조회된다.")
+    void test19() {
+        // given
+        PostSearch postSearch = PostSearch.builder()
+                .page(1)
+                .size(10)
+                .build();
+        assertEquals(0, postService.getList(postSearch).size());
+
+        // when (작성)
+        postService.write(PostCreate.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // then
+        List<PostResponse> written = postService.getList(postSearch);
+        assertEquals(1, written.size());
+        Long id = written.get(0).getId();
+
+        // when (수정)
+        postService.edit(id, PostEdit.builder()
+                .title("지워니")
+                .content("낙성대")
+                .build());
+
+        // then
+        assertEquals("지워니", postService.getList(postSearch).get(0).getTitle());
+
+        // when (삭제)
+        postService.delete(id);
+
+        // then
+        assertEquals(0, postService.getList(postSearch).size());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 글 조회 시 스택 트레이스 없는 PostNotFound가 발생한다.")
+    void test20() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // expected
+        PostNotFound e = assertThrows(PostNotFound.class, () -> postService.get(post.getId() + 1_000_000L));
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("반짝이", postService.get(post.getId()).getTitle());
+    }
+
+    @Test
+    @DisplayName("요약에 포함되지 않는 본문 뒷부분만 수정해도 글 버전이 올라간다.")
+    void test21() {
+        // given
+        String content = "낙".repeat(Post.EXCERPT_LENGTH + 50);
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content(content)
+                .build());
+        Long version = post.getVersion();
+
+        // when
+        postService.edit(post.getId(), PostEdit.builder()
+                .title("반짝이")
+                .content(content + "대")
+                .build());
+
+        // then
+        Post changePost = postRepository.findById(post.getId())
+                .orElseThrow(() -> new RuntimeException("글이 존재하지 않습니다. id=" + post.getId()));
+        assertEquals(content + "대", changePost.getContent());
+        assertEquals(post.getExcerpt(), changePost.getExcerpt());
+        assertEquals(version + 1, changePost.getVersion());
+    }
+
+    @Test
+    @DisplayName("본문 없이 제목만 수정하면 본문은 그대로 유지된다.")
+    void test22() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // when
+        postService.edit(post.getId(), PostEdit.builder()
+                .title("지워니")
+                .content(null)
+                .build());
+
+        // then
+        Post changePost = postRepository.findById(post.getId())
+                .orElseThrow(() -> new RuntimeException("글이 존재하지 않습니다. id=" + post.getId()));
+        assertEquals("지워니", changePost.getTitle());
+        assertEquals("낙성대", changePost.getContent());
+    }
+
+    @Test
+    @DisplayName("검색어로 글 목록을 조회하면 색인에서 찾은 글만 조회되고, 수정/삭제한 글은 바로 반영된다.")
+    void test23() {
+        // given
+        postService.write(PostCreate.builder()
+                .title("봉천동 카페")
+                .content("조용한 곳")
+                .build());
+        postService.write(PostCreate.builder()
+                .title("신림동 맛집")
+                .content("봉천동 근처")
+                .build());
+        postService.write(PostCreate.builder()
+                .title("다른 글")
+                .content("다른 내용")
+                .build());
+
+        PostSearch postSearch = PostSearch.builder()
+                .keyword("봉천동")
+                .build();
+
+        // when
+        List<PostResponse> posts = postService.getList(postSearch);
+
+        // then
+        assertEquals(2, posts.size());
+        assertEquals("봉천동 카페", posts.get(0).getTitle());
+        assertEquals("신림동 맛집", posts.get(1).getTitle());
+
+        Long editId = posts.get(1).getId();
+        postService.edit(editId, PostEdit.builder()
+                .title("신림동 맛집")
+                .content("관악구 근처")
+                .build());
+        postService.delete(posts.get(0).getId());
+
+        assertEquals(0, postService.getList(postSearch).size());
+        assertEquals(editId, postService.getList(PostSearch.builder()
+                .keyword("관악구")
+                .build()).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("조회수는 DB 반영 전에도 응답에 포함되고, 반영 후에는 글을 수정해도 유지된다.")
+    void test24() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            postService.increaseViewCount(post.getId());
+        }
+
+        // then
+        assertEquals(3L, postService.get(post.getId()).getViewCount());
+
+        postViewCounter.flush();
+        postService.edit(post.getId(), PostEdit.builder()
+                .title("지워니")
+                .content("낙성대")
+                .build());
+
+        assertEquals(0L, postViewCounter.pending(post.getId()));
+        assertEquals(3L, postRepository.findById(post.getId()).get().getViewCount());
+        assertEquals(3L, postService.get(post.getId()).getViewCount());
+    }
+
+    @Test
+    @DisplayName("글 개수가 페이지 크기의 배수여도 마지막 페이지에는 nextCursor가 없다.")
+    void test25() {
+        // given
+        List<Post> requestPosts = IntStream.range(0, 20)
+                .mapToObj(i -> Post.builder()
+                        .title("반삭이 제목 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList());
+        postRepository.saveAll(requestPosts);
+
+        PostCursorResponse first = postService.getListByCursor(PostSearch.builder()
+                .size(10)
+                .cursor("")
+                .build());
+
+        // when
+        PostCursorResponse second = postService.getListByCursor(PostSearch.builder()
+                .size(10)
+                .cursor(first.getNextCursor())
+                .build());
+
+        // then
+        assertNotNull(first.getNextCursor());
+        assertEquals(10, second.getPosts().size());
+        assertEquals("반삭이 제목 0", second.getPosts().get(9).getTitle());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("조회수를 DB에 반영해도 캐시는 유지되고, 캐시/커서 목록 모두 같은 조회수를 응답한다.")
+    void test26() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+        PostSearch postSearch = PostSearch.builder()
+                .page(1)
+                .size(10)
+                .build();
+        postService.get(post.getId());
+        postService.getList(postSearch);
+
+        for (int i = 0; i < 2; i++) {
+            postService.increaseViewCount(post.getId());
+        }
+
+        // when
+        postViewCounter.flush();
+        postService.increaseViewCount(post.getId());
+        CacheStats postBefore = postCache.stats();
+        CacheStats listBefore = postListCache.stats();
+
+        // then
+        assertEquals(3L, postService.get(post.getId()).getViewCount());
+        assertEquals(3L, postService.getList(postSearch).get(0).getViewCount());
+        assertEquals(3L, postService.getListByCursor(PostSearch.builder()
+                .size(10)
+                .cursor("")
+                .build()).getPosts().get(0).getViewCount());
+
+        assertEquals(1, postCache.stats().getHits() - postBefore.getHits());
+        assertEquals(1, postListCache.stats().getHits() - listBefore.getHits());
+        assertEquals(2L, postRepository.findById(post.getId()).get().getViewCount());
+        assertEquals(1L, postViewCounter.pending(post.getId()));
+    }
+
+    @Test
+    @DisplayName("커서 페이징 시 size가 1보다 작으면 1개씩 조회한다.")
+    void test27() {
+        // given
+        postRepository.saveAll(IntStream.range(0, 2)
+                .mapToObj(i -> Post.builder()
+                        .title("반짝이 " + i)
+                        .content("낙성대 " + i)
+                        .build())
+                .collect(Collectors.toList()));
+
+        // when
+        PostCursorResponse zero = postService.getListByCursor(PostSearch.builder()
+                .size(0)
+                .cursor("")
+                .build());
+        PostCursorResponse negative = postService.getListByCursor(PostSearch.builder()
+                .size(-5)
+                .cursor("")
+                .build());
+
+        // then
+        assertEquals(1, zero.getPosts().size());
+        assertNotNull(zero.getNextCursor());
+        assertEquals(1, negative.getPosts().size());
+    }
+
+    @Test
+    @DisplayName("검색어 검색은 여러 건 조회 제한(1000개)보다 크게 조회할 수 있다.")
+    void test28() {
+        // given
+        postService.writeAll(IntStream.range(0, 1001)
+                .mapToObj(i -> PostCreate.builder()
+                        .title("동작구 " + i)
+                        .content("노량진")
+                        .build())
+                .collect(Collectors.toList()));
+
+        // when
+        List<PostResponse> posts = postService.getList(PostSearch.builder()
+                .keyword("노량진")
+                .size(1500)
+                .build());
+
+        // then
+        assertEquals(1001, posts.size());
+    }
+
+    @Test
+    @DisplayName("오래 쓰이지 않은 글은 조회수 기록에서 제거되고, 다시 조회하면 DB 조회수부터 이어서 센다.")
+    void test29() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                .title("반짝이")
+                .content("낙성대")
+                .build());
+        postService.get(post.getId());
+        for (int i = 0; i < 2; i++) {
+            postService.increaseViewCount(post.getId());
+        }
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            postViewCounter.flush();
+        }
+        CacheStats before = postCache.stats();
+
+        // then
+        assertNull(postViewCounter.viewCount(post.getId()));
+        assertEquals(2L, postRepository.findById(post.getId()).get().getViewCount());
+
+        assertEquals(2L, postService.get(post.getId()).getViewCount());
+        assertEquals(1, postCache.stats().getHits() - before.getHits());
+
+        postService.increaseViewCount(post.getId());
+        assertEquals(3L, postService.get(post.getId()).getViewCount());
+    }
+}
@@ -0,0 +1,25 @@
+package com.bannylog.api.support;
+
+import com.bannylog.api.metrics.QueryCountInterceptor;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 요청 하나에서 실행된 SQL 개수 검증
+ * ex) mockMvc.perform(get("/posts/1")).andExpect(queryCount(1));
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    public static ResultMatcher queryCount(long expected) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountInterceptor.HEADER);
+            assertNotNull(header, QueryCountInterceptor.HEADER + " 헤더가 없습니다.");
+            assertEquals(expected, Long.parseLong(header), "실행된 SQL 개수");
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.bannylog.api.validation;
+
+import com.bannylog.api.exception.InvalidRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForbiddenWordMatcherTest {
+
+    @Test
+    @DisplayName("겹치거나 다른 금지어 안에 포함된 금지어도 한 번 훑어서 찾는다.")
+    void test1() {
+        // given
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.of(List.of("he", "she", "his", "hers", "바보", "  "));
+
+        // expected
+        assertEquals(5, matcher.size());
+        assertEquals("she", matcher.findFirst("uSHErs"));
+        assertEquals("his", matcher.findFirst("ahishers"));
+        assertEquals("바보", matcher.findFirst("나는 바보입니다."));
+        assertNull(matcher.findFirst("바 보"));
+        assertNull(matcher.findFirst(null));
+    }
+
+    @Test
+    @DisplayName("제목과 내용에 금지어가 있으면 필드별 메시지와 함께 InvalidRequest가 발생한다.")
+    void test2() {
+        // given
+        ForbiddenWordMatcher matcher = ForbiddenWordMatcher.of(List.of("바보", "멍청"));
+
+        // when
+        InvalidRequest e = assertThrows(InvalidRequest.class, () -> matcher.validate("나는 바보입니다.", "너는 멍청이"));
+
+        // then
+        assertEquals("제목에 바보를 포함할 수 없습니다.", e.getValidation().get("title"));
+        assertEquals("내용에 멍청을 포함할 수 없습니다.", e.getValidation().get("content"));
+        assertDoesNotThrow(() -> matcher.validate("반짝이", "낙성대"));
+    }
+
+    @Test
+    @DisplayName("사전 파일이 바뀌면 다시 읽고, 읽지 못하면 이전 사전을 유지한다.")
+    void test3(@TempDir Path dir) throws Exception {
+        // given
+        Path file = dir.resolve("forbidden-words.txt");
+        Files.writeString(file, "# 주석\n반짝이\n");
+        ForbiddenWordDictionary dictionary = new ForbiddenWordDictionary(file.toString());
+        ForbiddenWordMatcher before = dictionary.current();
+
+        // when
+        Files.writeString(file, "반짝이\n지워니\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        dictionary.reloadIfChanged();
+
+        // then
+        assertEquals(1, before.size());
+        assertEquals(2, dictionary.current().size());
+        assertEquals("지워니", dictionary.current().findFirst("지워니 안녕"));
+
+        Files.delete(file);
+        dictionary.reloadIfChanged();
+        assertEquals(2, dictionary.current().size());
+    }
+}